@@ -0,0 +1,100 @@
+package com.demo.vinicius;
+
+import com.demo.vinicius.WorkloadGenerator.DurationMix;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Escalabilidade do {@link FilterJobs} e do {@link CollectorJobs} por quantidade de jobs,
+ * distribuição de duração e largura da janela de execução
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FilterJobsBenchmark {
+
+    private static final Duration MAX_DURATION = Duration.ofHours(8);
+
+    @Param({"1000", "100000", "1000000"})
+    private int jobCount;
+
+    @Param({"SHORT", "MIXED", "LONG"})
+    private DurationMix distribution;
+
+    @Param({"1", "7", "30"})
+    private int windowDays;
+
+    private List<Job> jobs;
+    private FilterJobs filterJobs;
+    private FilterJobs parallelFilterJobs;
+    private FilterJobs partitionedFilterJobs;
+    private List<Job> window;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var generator = WorkloadGenerator.builder()
+            .seed(42L)
+            .jobCount(jobCount)
+            .durationMix(distribution)
+            .build();
+        jobs = generator.generate();
+        filterJobs = FilterJobs.createFilter(jobs, 8);
+        parallelFilterJobs = filterJobs.parallel();
+        partitionedFilterJobs = filterJobs.partitioned(WindowPartitioner.daily());
+        start = generator.getBase();
+        end = generator.getBase().plusDays(windowDays);
+        window = filterJobs.getStreamSeparateByRange(start, end).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public FilterJobs createFilter() {
+        return FilterJobs.createFilter(jobs, 8);
+    }
+
+    @Benchmark
+    public void rangeFilter(Blackhole blackhole) {
+        filterJobs.getStreamSeparateByRange(start, end).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Job>> collect() {
+        return window.stream().collect(new CollectorJobs(MAX_DURATION));
+    }
+
+    @Benchmark
+    public List<List<Job>> separatedJobs() {
+        return filterJobs.separatedJobs(start, end);
+    }
+
+    @Benchmark
+    public List<List<Job>> separatedJobsParallel() {
+        return parallelFilterJobs.separatedJobs(start, end);
+    }
+
+    @Benchmark
+    public List<List<Job>> separatedJobsPartitioned() {
+        return partitionedFilterJobs.separatedJobs(start, end);
+    }
+}
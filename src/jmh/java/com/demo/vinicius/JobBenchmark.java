@@ -0,0 +1,46 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Custo de construção de um {@link Job} e da conversão do tempo estimado
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JobBenchmark {
+
+    private static final LocalDateTime DEADLINE = LocalDateTime.of(2020, 10, 10, 12, 0);
+
+    @Param({"8", "2:30", "6:15:43", "7:59:59:99"})
+    private String estimatedTimeEnd;
+
+    @Benchmark
+    public Job buildJob() {
+        return Job.builder()
+            .id(1)
+            .description("Description")
+            .dateMaxCompleteProcess(DEADLINE)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+
+    @Benchmark
+    public long parseEstimatedTime() {
+        return EstimatedTimeParser.parse(estimatedTimeEnd);
+    }
+}
@@ -0,0 +1,163 @@
+package com.demo.vinicius;
+
+import com.demo.vinicius.WorkloadGenerator.DeadlineSkew;
+import com.demo.vinicius.WorkloadGenerator.DurationMix;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mede o {@link FilterJobs} em massas geradas pelo {@link WorkloadGenerator} de tamanhos
+ * crescentes e grava um relatório CSV com tempo, alocação e qualidade das listas de execução de
+ * cada tamanho, para localizar o ponto em que o custo por job deixa de ser constante.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.demo.vinicius.ScalingReport \
+ *     --sizes 1000,100000,10000000 --window-days 7 --output target/scaling-report.csv
+ * </pre>
+ *
+ * <p>Com {@code --store columnar} os jobs ficam no {@link ColumnarJobStore}, fora do heap, o que
+ * permite massas de dezenas de milhões de jobs. Sem a opção, o armazenamento colunar é usado a
+ * partir de {@value #COLUMNAR_SIZE} jobs. Cada linha é gravada assim que medida, de modo que o
+ * relatório mantém os tamanhos já medidos mesmo que um tamanho maior falhe.
+ */
+public final class ScalingReport {
+
+    private static final String HEADER = "jobs,store,skew,mix,window_days,build_ms,build_bytes,"
+        + "window_jobs,separate_ms,separate_bytes,ns_per_job,batches,fill_ratio";
+
+    private static final int COLUMNAR_SIZE = 10_000_000;
+
+    private final List<Integer> sizes;
+    private final int windowDays;
+    private final Boolean columnar;
+    private final DeadlineSkew skew;
+    private final DurationMix mix;
+    private final int repetitions;
+
+    private ScalingReport(List<Integer> sizes, int windowDays, Boolean columnar,
+        DeadlineSkew skew, DurationMix mix, int repetitions) {
+        this.sizes = sizes;
+        this.windowDays = windowDays;
+        this.columnar = columnar;
+        this.skew = skew;
+        this.mix = mix;
+        this.repetitions = repetitions;
+    }
+
+    public static void main(String[] args) throws IOException {
+        var sizes = List.of(1_000, 10_000, 100_000, 1_000_000, 10_000_000, 50_000_000);
+        var windowDays = 7;
+        // Sem --store, escolhido pelo tamanho
+        Boolean columnar = null;
+        var skew = DeadlineSkew.UNIFORM;
+        var mix = DurationMix.MIXED;
+        var repetitions = 5;
+        var output = Path.of("target", "scaling-report.csv");
+
+        for (var index = 0; index + 1 < args.length; index += 2) {
+            var value = args[index + 1];
+            switch (args[index]) {
+                case "--sizes":
+                    sizes = Arrays.stream(value.split(",")).map(String::trim)
+                        .map(Integer::valueOf).toList();
+                    break;
+                case "--window-days":
+                    windowDays = Integer.parseInt(value);
+                    break;
+                case "--store":
+                    columnar = "columnar".equals(value);
+                    break;
+                case "--skew":
+                    skew = DeadlineSkew.valueOf(value);
+                    break;
+                case "--mix":
+                    mix = DurationMix.valueOf(value);
+                    break;
+                case "--repetitions":
+                    repetitions = Integer.parseInt(value);
+                    break;
+                case "--output":
+                    output = Path.of(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                        String.format("Opção desconhecida: %s", args[index]));
+            }
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (var writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            new ScalingReport(sizes, windowDays, columnar, skew, mix, repetitions).run(writer);
+        }
+        System.out.printf("Relatório gravado em %s%n", output.toAbsolutePath());
+    }
+
+    private void run(PrintWriter writer) {
+        write(writer, HEADER);
+        for (var size : sizes) {
+            write(writer, measure(size));
+        }
+    }
+
+    private static void write(PrintWriter writer, String line) {
+        writer.println(line);
+        writer.flush();
+        System.out.println(line);
+    }
+
+    private String measure(int size) {
+        var generator = WorkloadGenerator.builder()
+            .seed(42L)
+            .jobCount(size)
+            .deadlineSkew(skew)
+            .durationMix(mix)
+            .build();
+        var start = generator.getBase();
+        var end = start.plusDays(windowDays);
+        var columnarStore = columnar != null ? columnar : size >= COLUMNAR_SIZE;
+
+        System.gc();
+        var buildBytes = allocatedBytes();
+        var buildNanos = System.nanoTime();
+        var filterJobs = columnarStore
+            ? FilterJobs.createFilter(ColumnarJobStore.of(generator.stream()), 8)
+            : FilterJobs.createFilter(generator.generate(), 8);
+        buildNanos = System.nanoTime() - buildNanos;
+        buildBytes = allocatedBytes() - buildBytes;
+
+        // Aquecimento, descartado
+        var batches = filterJobs.separatedJobs(start, end);
+
+        var separateNanos = Long.MAX_VALUE;
+        var separateBytes = Long.MAX_VALUE;
+        for (var repetition = 0; repetition < repetitions; repetition++) {
+            var bytes = allocatedBytes();
+            var nanos = System.nanoTime();
+            batches = filterJobs.separatedJobs(start, end);
+            separateNanos = Math.min(separateNanos, System.nanoTime() - nanos);
+            separateBytes = Math.min(separateBytes, allocatedBytes() - bytes);
+        }
+
+        var report = PackingReport.of(PackingStrategy.NEXT_FIT, batches, Duration.ofHours(8));
+        var windowJobs = report.getJobCount();
+        return String.format(Locale.ROOT, "%d,%s,%s,%s,%d,%.3f,%d,%d,%.3f,%d,%.1f,%d,%.4f",
+            size, columnarStore ? "columnar" : "heap", skew, mix, windowDays, buildNanos / 1e6,
+            buildBytes, windowJobs, separateNanos / 1e6, separateBytes,
+            windowJobs == 0 ? 0.0 : (double) separateNanos / windowJobs, report.getBatchCount(),
+            report.getFillRatio());
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado da execução de uma lista: posição na saída do {@link FilterJobs}, resultado de cada
+ * job e tempo total da lista
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class BatchExecution {
+
+    private final int index;
+    private final List<JobExecution> jobs;
+    private final Duration elapsed;
+
+    /**
+     * Indica se a lista esgotou o tempo disponível antes de concluir todos os jobs
+     *
+     * @return {@code true} quando algum job foi interrompido ou deixou de ser executado
+     */
+    public boolean isTimedOut() {
+        return jobs.stream().anyMatch(job -> job.getStatus() == JobExecutionStatus.TIMED_OUT
+            || job.getStatus() == JobExecutionStatus.SKIPPED);
+    }
+}
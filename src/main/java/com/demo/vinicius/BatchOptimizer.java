@@ -0,0 +1,565 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Busca local que reduz a quantidade de listas de execução de um agrupamento existente, como o do
+ * {@link CollectorJobs}, dentro de um tempo limite.
+ *
+ * <p>A cada passo a lista com menor duração é esvaziada, movendo os jobs para a lista mais cheia
+ * em que cabem, ou aliviada, trocando um job por outro menor de uma lista com espaço. Quando
+ * nenhum movimento melhora o agrupamento um job é movido aleatoriamente para outra lista em que
+ * cabe. As listas respeitam a duração máxima e, executadas em sequência, mantêm todos os jobs na
+ * ordem da menor para a maior data máxima de conclusão: um movimento só é aceito quando a lista de
+ * destino continua entre as listas vizinhas nessa ordem, de modo que a busca reagrupa jobs com a
+ * mesma data e desloca jobs entre listas vizinhas. Listas que já excedem a duração máxima, como a
+ * de um job mais longo que ela, são mantidas como estão e não participam dos movimentos.
+ *
+ * <p>Os movimentos nunca criam listas, por isso o agrupamento atual é sempre o melhor encontrado;
+ * sem redução o agrupamento inicial é retornado. A busca termina ao atingir o mínimo possível de
+ * listas ou no tempo limite, verificado também durante a preparação e entre os movimentos de cada
+ * passo. A lista mais leve é mantida em um
+ * heap e os destinos de cada job são procurados apenas entre as listas vizinhas compatíveis com a
+ * sua data, de modo que um passo não depende da quantidade total de listas.
+ */
+public class BatchOptimizer {
+
+    private static final long DEFAULT_SEED = 42L;
+
+    private final long maxNanos;
+    private final Duration budget;
+    private final long seed;
+
+    /**
+     * @param maxDuration duração máxima de cada lista de execução
+     * @param budget      tempo limite da busca
+     */
+    public BatchOptimizer(Duration maxDuration, Duration budget) {
+        this(maxDuration, budget, DEFAULT_SEED);
+    }
+
+    BatchOptimizer(Duration maxDuration, Duration budget, long seed) {
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException(
+                String.format("Tempo limite inválido: %s", budget));
+        }
+        this.maxNanos = maxDuration.toNanos();
+        this.budget = budget;
+        this.seed = seed;
+    }
+
+    /**
+     * Reduz a quantidade de listas de execução dentro do tempo limite
+     *
+     * @param batches listas de execução iniciais
+     * @return melhor agrupamento encontrado, na ordem de execução das listas
+     */
+    public List<List<Job>> optimize(List<List<Job>> batches) {
+        var deadline = System.nanoTime() + budget.toNanos();
+        var search = new Search();
+        if (search.load(batches, deadline)) {
+            var optimized = search.run(deadline);
+            // Movimentos sem redução apenas trocam jobs entre listas, então o agrupamento inicial
+            // continua sendo o melhor encontrado
+            if (optimized.size() < search.initial) {
+                return optimized;
+            }
+        }
+        var initial = new ArrayList<List<Job>>(batches.size());
+        for (var batch : batches) {
+            if (!batch.isEmpty()) {
+                initial.add(new ArrayList<>(batch));
+            }
+        }
+        return initial;
+    }
+
+    private final class Search {
+
+        private static final int CHECK_INTERVAL = 4096;
+
+        private Job[] jobs;
+        private long[] nanos;
+        private int[] groups;
+        private final List<Batch> movable = new ArrayList<>();
+        private final PriorityQueue<Load> loads =
+            new PriorityQueue<>(Comparator.comparingLong(load -> load.nanos));
+        private final Random random = new Random(seed);
+        private int lowerBound;
+        private Batch first;
+        private int size;
+        private int initial;
+
+        /**
+         * Prepara a busca a partir das listas iniciais
+         *
+         * @return {@code false} quando o tempo limite terminou durante a preparação
+         */
+        private boolean load(List<List<Job>> batches, long deadline) {
+            var count = 0;
+            for (var batch : batches) {
+                count += batch.size();
+            }
+            var flat = new Job[count];
+            var sorted = true;
+            var index = 0;
+            for (var batch : batches) {
+                for (var job : batch) {
+                    if (index % CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                        return false;
+                    }
+                    sorted = sorted && (index == 0 || !job.getDateMaxCompleteProcess()
+                        .isBefore(flat[index - 1].getDateMaxCompleteProcess()));
+                    flat[index++] = job;
+                }
+            }
+
+            // Posições na ordem da data máxima de conclusão, com empate pela ordem inicial
+            var order = sorted ? IntStream.range(0, count).toArray() : deadlineOrder(flat);
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            var positions = new int[count];
+            jobs = new Job[count];
+            nanos = new long[count];
+            // Jobs com a mesma data máxima de conclusão compartilham o grupo
+            groups = new int[count];
+            for (var position = 0; position < count; position++) {
+                if (position % CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    return false;
+                }
+                positions[order[position]] = position;
+                jobs[position] = flat[order[position]];
+                nanos[position] = jobs[position].getEstimatedTimeNanos();
+                if (position > 0) {
+                    var same = jobs[position].getDateMaxCompleteProcess()
+                        .equals(jobs[position - 1].getDateMaxCompleteProcess());
+                    groups[position] = groups[position - 1] + (same ? 0 : 1);
+                }
+            }
+
+            var created = new ArrayList<Batch>(batches.size());
+            var total = 0L;
+            index = 0;
+            for (var batch : batches) {
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                if (created.size() % CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    return false;
+                }
+                var items = new int[batch.size()];
+                for (var item = 0; item < items.length; item++) {
+                    items[item] = positions[index++];
+                }
+                Arrays.sort(items);
+                var next = new Batch(items);
+                if (!next.fixed) {
+                    total += next.load;
+                }
+                created.add(next);
+            }
+            created.sort(Comparator.comparingInt(batch -> batch.items[0]));
+
+            Batch previous = null;
+            for (var batch : created) {
+                batch.previous = previous;
+                if (previous == null) {
+                    first = batch;
+                } else {
+                    previous.next = batch;
+                }
+                previous = batch;
+                if (!batch.fixed) {
+                    batch.slot = movable.size();
+                    movable.add(batch);
+                    loads.add(new Load(batch));
+                }
+            }
+            size = created.size();
+            initial = size;
+            lowerBound = size - movable.size() + (movable.isEmpty()
+                ? 0
+                : (int) Math.max(1, (total + maxNanos - 1) / maxNanos));
+            return true;
+        }
+
+        private List<List<Job>> run(long deadline) {
+            while (size > lowerBound && System.nanoTime() < deadline) {
+                var target = lightest();
+                if (target == null) {
+                    break;
+                }
+                if (!relieve(target, deadline)) {
+                    perturb();
+                }
+                if (target.count == 0 && !target.removed) {
+                    unlink(target);
+                }
+            }
+            return export();
+        }
+
+        /**
+         * Retorna a lista mais leve e, em parte dos passos, uma das três mais leves
+         */
+        private Batch lightest() {
+            var candidates = new Batch[3];
+            var found = 0;
+            while (found < candidates.length && !loads.isEmpty()) {
+                var load = loads.poll();
+                if (load.isCurrent() && (found == 0 || candidates[found - 1] != load.batch)) {
+                    candidates[found++] = load.batch;
+                }
+            }
+            if (found == 0) {
+                return null;
+            }
+            for (var index = 0; index < found; index++) {
+                loads.add(new Load(candidates[index]));
+            }
+            return random.nextInt(4) == 0 ? candidates[random.nextInt(found)] : candidates[0];
+        }
+
+        /**
+         * Move os jobs da lista para as listas mais cheias em que cabem e troca jobs por outros
+         * menores, sempre transferindo duração para listas mais cheias e mantendo a ordem das datas
+         *
+         * @return {@code true} quando algum movimento foi realizado
+         */
+        private boolean relieve(Batch target, long deadline) {
+            var changed = false;
+            for (var index = target.count - 1; index >= 0; index--) {
+                if (System.nanoTime() >= deadline) {
+                    return changed;
+                }
+                var item = target.items[index];
+                var destination = fullestFitting(target, item, deadline);
+                if (destination != null) {
+                    target.remove(index);
+                    destination.add(item);
+                    changed = true;
+                }
+            }
+            if (target.count == 0) {
+                return true;
+            }
+
+            for (var index = 0; index < target.count; index++) {
+                if (System.nanoTime() >= deadline) {
+                    return changed;
+                }
+                var low = target.low(-1);
+                var high = target.high(-1);
+                for (var other = target.previous; other != null && other.high(-1) >= low;
+                    other = other.previous) {
+                    if (System.nanoTime() >= deadline) {
+                        return changed;
+                    }
+                    if (swapAny(target, index, other)) {
+                        return true;
+                    }
+                }
+                for (var other = target.next; other != null && other.low(-1) <= high;
+                    other = other.next) {
+                    if (System.nanoTime() >= deadline) {
+                        return changed;
+                    }
+                    if (swapAny(target, index, other)) {
+                        return true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        /**
+         * Procura a lista mais cheia em que o job cabe, percorrendo a partir da lista de origem
+         * apenas as listas vizinhas que mantêm a ordem das datas
+         */
+        private Batch fullestFitting(Batch source, int item, long deadline) {
+            var group = groups[item];
+            Batch fullest = null;
+            var visited = 0;
+            for (var batch = source.previous; batch != null && group <= nextLow(batch, item);
+                batch = batch.previous) {
+                if (++visited % CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    return fullest;
+                }
+                if (fits(batch, item) && previousHigh(batch, item) <= group
+                    && (fullest == null || batch.load > fullest.load)) {
+                    fullest = batch;
+                }
+            }
+            for (var batch = source.next; batch != null && previousHigh(batch, item) <= group;
+                batch = batch.next) {
+                if (++visited % CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    return fullest;
+                }
+                if (fits(batch, item) && group <= nextLow(batch, item)
+                    && (fullest == null || batch.load > fullest.load)) {
+                    fullest = batch;
+                }
+            }
+            return fullest;
+        }
+
+        private boolean fits(Batch batch, int item) {
+            return !batch.fixed && batch.load + nanos[item] <= maxNanos;
+        }
+
+        private boolean swapAny(Batch target, int index, Batch other) {
+            if (other.fixed || other.load < target.load) {
+                return false;
+            }
+            for (var swap = 0; swap < other.count; swap++) {
+                if (swap(target, index, other, swap)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Troca o job da lista pelo job menor da outra lista quando a outra lista continua dentro
+         * da duração máxima e as duas mantêm a ordem das datas, desfazendo a troca caso contrário
+         */
+        private boolean swap(Batch target, int index, Batch other, int swap) {
+            var item = target.items[index];
+            var candidate = other.items[swap];
+            if (nanos[candidate] >= nanos[item]
+                || other.load - nanos[candidate] + nanos[item] > maxNanos) {
+                return false;
+            }
+            other.remove(swap);
+            target.remove(index);
+            other.add(item);
+            target.add(candidate);
+            if (ordered(target) && ordered(other)) {
+                return true;
+            }
+            other.discard(item);
+            target.discard(candidate);
+            other.add(candidate);
+            target.add(item);
+            return false;
+        }
+
+        /**
+         * Move um job aleatório para uma das listas vizinhas em que cabe
+         */
+        private void perturb() {
+            if (movable.isEmpty()) {
+                return;
+            }
+            var source = movable.get(random.nextInt(movable.size()));
+            var index = random.nextInt(source.count);
+            var item = source.items[index];
+            var destination = random.nextBoolean() ? source.previous : source.next;
+            if (destination != null && fits(destination, item)
+                && previousHigh(destination, item) <= groups[item]
+                && groups[item] <= nextLow(destination, item)) {
+                source.remove(index);
+                destination.add(item);
+                if (source.count == 0) {
+                    unlink(source);
+                }
+            }
+        }
+
+        private boolean ordered(Batch batch) {
+            return batch.count == 0
+                || (previousHigh(batch, -1) <= batch.low(-1)
+                    && batch.high(-1) <= nextLow(batch, -1));
+        }
+
+        /** Grupo do último job das listas anteriores, exceto o job informado, ou -1 sem jobs */
+        private int previousHigh(Batch batch, int excluded) {
+            for (var previous = batch.previous; previous != null; previous = previous.previous) {
+                var high = previous.high(excluded);
+                if (high >= 0) {
+                    return high;
+                }
+            }
+            return -1;
+        }
+
+        /** Grupo do primeiro job das listas seguintes, exceto o job informado */
+        private int nextLow(Batch batch, int excluded) {
+            for (var next = batch.next; next != null; next = next.next) {
+                var low = next.low(excluded);
+                if (low >= 0) {
+                    return low;
+                }
+            }
+            return Integer.MAX_VALUE;
+        }
+
+        private void unlink(Batch batch) {
+            if (batch.previous == null) {
+                first = batch.next;
+            } else {
+                batch.previous.next = batch.next;
+            }
+            if (batch.next != null) {
+                batch.next.previous = batch.previous;
+            }
+            var last = movable.remove(movable.size() - 1);
+            if (last != batch) {
+                last.slot = batch.slot;
+                movable.set(batch.slot, last);
+            }
+            batch.removed = true;
+            size--;
+        }
+
+        private List<List<Job>> export() {
+            var result = new ArrayList<List<Job>>(size);
+            for (var batch = first; batch != null; batch = batch.next) {
+                var list = new ArrayList<Job>(batch.count);
+                for (var index = 0; index < batch.count; index++) {
+                    list.add(jobs[batch.items[index]]);
+                }
+                result.add(list);
+            }
+            return result;
+        }
+
+        /**
+         * Registra a duração atual da lista no heap, descartando os registros antigos quando o
+         * heap cresce além das listas existentes
+         */
+        private void record(Batch batch) {
+            if (batch.fixed || batch.removed) {
+                return;
+            }
+            if (loads.size() > 4 * movable.size() + 64) {
+                loads.clear();
+                for (var current : movable) {
+                    loads.add(new Load(current));
+                }
+                return;
+            }
+            loads.add(new Load(batch));
+        }
+
+        /**
+         * Lista de execução com as posições dos jobs em ordem crescente, encadeada com as listas
+         * vizinhas na ordem de execução
+         */
+        private final class Batch {
+
+            private int[] items;
+            private int count;
+            private long load;
+            private final boolean fixed;
+            private boolean removed;
+            private int slot = -1;
+            private Batch previous;
+            private Batch next;
+
+            private Batch(int[] items) {
+                this.items = items;
+                this.count = items.length;
+                for (var item : items) {
+                    load += nanos[item];
+                }
+                this.fixed = load > maxNanos;
+            }
+
+            private void add(int item) {
+                var position = -Arrays.binarySearch(items, 0, count, item) - 1;
+                if (count == items.length) {
+                    items = Arrays.copyOf(items, Math.max(4, count * 2));
+                }
+                System.arraycopy(items, position, items, position + 1, count - position);
+                items[position] = item;
+                count++;
+                load += nanos[item];
+                record(this);
+            }
+
+            private int remove(int index) {
+                var item = items[index];
+                System.arraycopy(items, index + 1, items, index, count - index - 1);
+                count--;
+                load -= nanos[item];
+                record(this);
+                return item;
+            }
+
+            private void discard(int item) {
+                remove(Arrays.binarySearch(items, 0, count, item));
+            }
+
+            /** Grupo do primeiro job da lista, exceto o job informado, ou -1 sem jobs */
+            private int low(int excluded) {
+                for (var index = 0; index < count; index++) {
+                    if (items[index] != excluded) {
+                        return groups[items[index]];
+                    }
+                }
+                return -1;
+            }
+
+            /** Grupo do último job da lista, exceto o job informado, ou -1 sem jobs */
+            private int high(int excluded) {
+                for (var index = count - 1; index >= 0; index--) {
+                    if (items[index] != excluded) {
+                        return groups[items[index]];
+                    }
+                }
+                return -1;
+            }
+        }
+
+        /**
+         * Duração de uma lista no momento do registro no heap, descartada quando a lista mudou
+         */
+        private final class Load {
+
+            private final Batch batch;
+            private final long nanos;
+
+            private Load(Batch batch) {
+                this.batch = batch;
+                this.nanos = batch.load;
+            }
+
+            private boolean isCurrent() {
+                return !batch.removed && batch.load == nanos;
+            }
+        }
+    }
+
+    /**
+     * Ordena as posições dos jobs pela data máxima de conclusão de forma estável
+     *
+     * @return posição de origem de cada posição ordenada
+     */
+    private static int[] deadlineOrder(Job[] jobs) {
+        var seconds = new long[jobs.length];
+        var nanos = new int[jobs.length];
+        for (var index = 0; index < jobs.length; index++) {
+            var deadline = jobs[index].getDateMaxCompleteProcess();
+            seconds[index] = deadline.toEpochSecond(ZoneOffset.UTC);
+            nanos[index] = deadline.getNano();
+        }
+        var keys = DeadlineSort.keys(seconds, nanos);
+        if (keys != null) {
+            return DeadlineSort.order(keys);
+        }
+        return IntStream.range(0, jobs.length).boxed()
+            .sorted(Comparator.comparing(index -> jobs[index].getDateMaxCompleteProcess()))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
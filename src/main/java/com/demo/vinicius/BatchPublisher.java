@@ -0,0 +1,145 @@
+package com.demo.vinicius;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Publica as listas de execução de um Stream sob demanda. Cada assinatura consome um novo Stream
+ * do {@code source}, criado apenas na primeira solicitação, e avança somente a quantidade de
+ * listas solicitadas por {@link Flow.Subscription#request}, de modo que o filtro e o agrupamento
+ * não se adiantam ao assinante. O cancelamento interrompe o consumo e fecha o Stream.
+ *
+ * <p>Os sinais de cada assinatura são emitidos em sequência no {@link Executor} informado.
+ */
+final class BatchPublisher implements Flow.Publisher<List<Job>> {
+
+    private final Supplier<Stream<List<Job>>> source;
+    private final Executor executor;
+
+    BatchPublisher(Supplier<Stream<List<Job>>> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<Job>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new BatchSubscription(subscriber));
+    }
+
+    private final class BatchSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super List<Job>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException invalidRequest;
+
+        // Acessados apenas em run(), serializado por pending
+        private Stream<List<Job>> stream;
+        private Iterator<List<Job>> iterator;
+        private boolean done;
+
+        private BatchSubscription(Flow.Subscriber<? super List<Job>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(
+                    String.format("Quantidade solicitada inválida: %d", n));
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    var total = current + added;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                pending.set(0);
+                subscriber.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            var missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+
+            try {
+                while (demand.get() > 0 && !cancelled) {
+                    if (iterator == null) {
+                        stream = source.get();
+                        iterator = stream.iterator();
+                    }
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(iterator.next());
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                }
+            } catch (RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+                return;
+            }
+            if (cancelled) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            done = true;
+            cancelled = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
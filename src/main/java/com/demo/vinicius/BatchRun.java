@@ -0,0 +1,34 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado do {@link BatchRunner}: execução de cada lista, na ordem recebida, e o tempo total até
+ * o término da última lista
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class BatchRun {
+
+    private final List<BatchExecution> batches;
+    private final Duration elapsed;
+
+    /**
+     * Conta os jobs de todas as listas com a situação informada
+     *
+     * @param status situação da execução
+     * @return quantidade de jobs
+     */
+    public long count(JobExecutionStatus status) {
+        return batches.stream()
+            .flatMap(batch -> batch.getJobs().stream())
+            .filter(job -> job.getStatus() == status)
+            .count();
+    }
+}
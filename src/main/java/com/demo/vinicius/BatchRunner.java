@@ -0,0 +1,134 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executa as listas produzidas pelo {@link FilterJobs#separatedJobs}. Os jobs de cada lista são
+ * executados em sequência e as listas em paralelo, cada uma em uma virtual thread, limitadas à
+ * quantidade máxima de listas simultâneas.
+ *
+ * <p>Cada lista dispõe da duração máxima informada, contada a partir do início do primeiro job. O
+ * job em execução quando o tempo se esgota é interrompido e marcado como
+ * {@link JobExecutionStatus#TIMED_OUT}, e os jobs seguintes da lista como
+ * {@link JobExecutionStatus#SKIPPED}. O job interrompido executa em uma virtual thread própria, de
+ * modo que um job que ignore a interrupção não impede o término da lista.
+ */
+public class BatchRunner {
+
+    private final JobExecutor executor;
+    private final long maxNanos;
+    private final int maxConcurrentBatches;
+
+    public BatchRunner(JobExecutor executor, Duration maxDuration, int maxConcurrentBatches) {
+        if (maxDuration.isNegative() || maxDuration.isZero()) {
+            throw new IllegalArgumentException(
+                String.format("Duração máxima inválida: %s", maxDuration));
+        }
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException(
+                String.format("Quantidade máxima de listas simultâneas inválida: %d",
+                    maxConcurrentBatches));
+        }
+        this.executor = executor;
+        this.maxNanos = maxDuration.toNanos();
+        this.maxConcurrentBatches = maxConcurrentBatches;
+    }
+
+    /**
+     * Executa as listas e aguarda o término de todas
+     *
+     * @param batches listas de execução
+     * @return resultado de cada lista, na ordem recebida
+     */
+    public BatchRun run(List<List<Job>> batches) {
+        var start = System.nanoTime();
+        var permits = new Semaphore(maxConcurrentBatches);
+        var futures = new ArrayList<Future<BatchExecution>>(batches.size());
+
+        var factory = Thread.ofVirtual().name("batch-", 0).factory();
+        try (var batchExecutor = Executors.newThreadPerTaskExecutor(factory)) {
+            for (var index = 0; index < batches.size(); index++) {
+                var position = index;
+                var batch = batches.get(index);
+                futures.add(batchExecutor.submit(() -> runBatch(position, batch, permits)));
+            }
+
+            try {
+                var executions = new ArrayList<BatchExecution>(futures.size());
+                for (var future : futures) {
+                    executions.add(future.get());
+                }
+                return new BatchRun(List.copyOf(executions),
+                    Duration.ofNanos(System.nanoTime() - start));
+            } catch (InterruptedException | ExecutionException exception) {
+                // Interrompe as listas antes do close, que aguarda o término de todas
+                futures.forEach(future -> future.cancel(true));
+                batchExecutor.shutdownNow();
+                throw exception;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Execução das listas interrompida", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Falha na execução das listas", exception.getCause());
+        }
+    }
+
+    private BatchExecution runBatch(int index, List<Job> batch, Semaphore permits)
+        throws InterruptedException {
+        permits.acquire();
+        try {
+            var start = System.nanoTime();
+            var deadline = start + maxNanos;
+            var executions = new ArrayList<JobExecution>(batch.size());
+
+            for (var job : batch) {
+                var jobStart = System.nanoTime();
+                var offset = Duration.ofNanos(jobStart - start);
+                var remaining = deadline - jobStart;
+                if (remaining <= 0) {
+                    executions.add(new JobExecution(job, JobExecutionStatus.SKIPPED, offset,
+                        Duration.ZERO, null));
+                    continue;
+                }
+
+                var task = new FutureTask<Void>(() -> {
+                    executor.execute(job);
+                    return null;
+                });
+                Thread.ofVirtual().name("job-" + job.getId()).start(task);
+
+                var status = JobExecutionStatus.COMPLETED;
+                Throwable error = null;
+                try {
+                    task.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException exception) {
+                    status = JobExecutionStatus.FAILED;
+                    error = exception.getCause();
+                } catch (TimeoutException exception) {
+                    task.cancel(true);
+                    status = JobExecutionStatus.TIMED_OUT;
+                } catch (InterruptedException exception) {
+                    task.cancel(true);
+                    throw exception;
+                }
+                executions.add(new JobExecution(job, status, offset,
+                    Duration.ofNanos(System.nanoTime() - jobStart), error));
+            }
+
+            return new BatchExecution(index, List.copyOf(executions),
+                Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            permits.release();
+        }
+    }
+}
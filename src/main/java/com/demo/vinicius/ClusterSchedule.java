@@ -0,0 +1,23 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado do {@link WorkerScheduler}: linha do tempo de cada worker, duração total até o término
+ * do último worker e os jobs concluídos após a data máxima de conclusão
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ClusterSchedule {
+
+    private final List<WorkerTimeline> workers;
+    private final Duration makespan;
+    private final Duration maxLateness;
+    private final List<ScheduledJob> lateJobs;
+}
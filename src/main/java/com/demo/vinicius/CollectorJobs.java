@@ -1,99 +1,93 @@
 package com.demo.vinicius;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 public class CollectorJobs
-    implements Collector<Job, Map<Integer, List<Job>>, Map<Integer, List<Job>>> {
+    implements Collector<Job, JobBatches, Map<Integer, List<Job>>> {
 
-    private final Duration maxDuration;
-    private final AtomicInteger counter = new AtomicInteger(0);
-    private Duration totalDuration = Duration.ZERO;
-    private Integer identifier = counter.getAndIncrement();
-    private List<Job> arrayList = new ArrayList<>();
+    private final long maxNanos;
 
     public CollectorJobs(Duration maxDuration) {
-        this.maxDuration = maxDuration;
+        this.maxNanos = maxDuration.toNanos();
     }
 
     @Override
-    public Supplier<Map<Integer, List<Job>>> supplier() {
-        return HashMap::new;
+    public Supplier<JobBatches> supplier() {
+        return () -> new JobBatches(maxNanos);
     }
 
     @Override
-    public BiConsumer<Map<Integer, List<Job>>, Job> accumulator() {
-        return (map, job) -> {
-            var duration = getDuration(job);
-            totalDuration = totalDuration.plus(duration);
-
-            if (isExceedLimit()) {
-                totalDuration = duration;
-                setIdentifier();
-                arrayList = new ArrayList<>();
-            }
-
-            arrayList.add(job);
-            map.put(identifier, arrayList);
-        };
+    public BiConsumer<JobBatches, Job> accumulator() {
+        return JobBatches::add;
     }
 
     @Override
-    public BinaryOperator<Map<Integer, List<Job>>> combiner() {
-        return (actual, ele) -> {
-            actual.putAll(ele);
-            return actual;
-        };
+    public BinaryOperator<JobBatches> combiner() {
+        return JobBatches::combine;
     }
 
     @Override
-    public Function<Map<Integer, List<Job>>, Map<Integer, List<Job>>> finisher() {
-        return (map) -> map.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey())
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (oldValue, newValue) -> oldValue, LinkedHashMap::new)
-            );
-    }
+    public Function<JobBatches, Map<Integer, List<Job>>> finisher() {
+        return (container) -> {
+            var metrics = SchedulingMetrics.global();
+            var timer = metrics.start(PlanningPhase.FINISH);
+
+            var batches = container.batches();
+            var map = new LinkedHashMap<Integer, List<Job>>(batches.size() * 4 / 3 + 1);
+            for (var index = 0; index < batches.size(); index++) {
+                map.put(index, batches.get(index));
+            }
 
-    @Override
-    public Set<Characteristics> characteristics() {
-        return Collections.unmodifiableSet(EnumSet.of(Characteristics.IDENTITY_FINISH));
+            timer.stop();
+            record(container);
+            return map;
+        };
     }
 
-    private Duration getDuration(Job job) {
-        var split = job.getEstimatedTimeEnd().split(":");
-
-        var hoursNano = TimeUnit.HOURS.toNanos(Integer.parseInt(split[0]));
-        var minutesNano = TimeUnit.MINUTES.toNanos(Integer.parseInt(split[1]));
-        var secondNano = TimeUnit.SECONDS.toNanos(Integer.parseInt(split[2]));
-        var milliNano = TimeUnit.MILLISECONDS.toNanos(Integer.parseInt(split[3]));
+    /**
+     * Collector com a mesma regra do {@link CollectorJobs} que retorna as listas de execução
+     * diretamente, sem o mapa indexado. Por job, o acúmulo apenas soma a duração em um
+     * {@code long} e adiciona o job na lista atual, abrindo uma nova lista somente quando o
+     * limite é ultrapassado, de modo que não há alocação além do crescimento das listas.
+     *
+     * @param maxDuration duração máxima de cada lista de execução
+     * @return Collector das listas de execução, na ordem de encontro
+     */
+    public static Collector<Job, JobBatches, List<List<Job>>> toBatches(Duration maxDuration) {
+        var maxNanos = maxDuration.toNanos();
+        return Collector.of(() -> new JobBatches(maxNanos), JobBatches::add,
+            JobBatches::combine, CollectorJobs::finish);
+    }
 
-        var totalTime = hoursNano + milliNano + secondNano + minutesNano;
-        return Duration.ofNanos(totalTime);
+    /**
+     * Registra as métricas do contêiner e retorna as suas listas de execução
+     *
+     * @param container contêiner acumulado
+     * @return listas de execução
+     */
+    static List<List<Job>> finish(JobBatches container) {
+        record(container);
+        return container.batches();
     }
 
-    private boolean isExceedLimit() {
-        return totalDuration.compareTo(maxDuration) > 0;
+    private static void record(JobBatches container) {
+        SchedulingMetrics.global().recordBatches(container.jobCount(),
+            container.batches().size(), container.totalNanos(), container.maxNanos());
     }
 
-    private void setIdentifier() {
-        identifier = counter.getAndIncrement();
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.unmodifiableSet(EnumSet.noneOf(Characteristics.class));
     }
 }
@@ -0,0 +1,510 @@
+package com.demo.vinicius;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Armazenamento colunar dos jobs fora do heap, para conjuntos com dezenas de milhões de jobs.
+ * Identificação, data máxima de conclusão (segundos UTC e nanos) e tempo estimado em
+ * nanossegundos ficam em colunas primitivas em {@link ByteBuffer}s diretos. As descrições ficam em
+ * UTF-8 em uma área de bytes direta, referenciada por colunas de posição e tamanho, e apenas os
+ * tempos estimados em texto, com poucos valores distintos, ficam em uma tabela de strings sem
+ * repetições no heap.
+ *
+ * <p>Entre linhas com a mesma identificação é mantida apenas a última informada, na posição da
+ * primeira, como no {@link JobIdIndex#deduplicate}, e a inclusão de jobs substitui as linhas
+ * existentes com a mesma identificação.
+ *
+ * <p>As linhas são ordenadas pela data máxima de conclusão na construção, de forma estável. O
+ * filtro por range é feito por busca binária nas colunas e os objetos {@link Job} são criados
+ * apenas para os jobs retornados, por exemplo pelo {@link FilterJobs#separatedJobs}. Os jobs
+ * criados são cópias: alterações neles não são refletidas no armazenamento.
+ *
+ * <p>Cada coluna é limitada a 2 GiB, ou seja, a cerca de 268 milhões de jobs, assim como a área
+ * de descrições.
+ */
+public final class ColumnarJobStore {
+
+    private static final byte HAS_ID = 1;
+    private static final int ROW_SIZE = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES + Long.BYTES
+        + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int MAX_ROWS = Integer.MAX_VALUE / Long.BYTES;
+    private static final int MAX_DESCRIPTION_BYTES = Integer.MAX_VALUE - 8;
+    private static final int NULL_DESCRIPTION = -1;
+
+    private final int size;
+    private final ByteBuffer ids;
+    private final ByteBuffer flags;
+    private final ByteBuffer seconds;
+    private final ByteBuffer nanos;
+    private final ByteBuffer estimatedNanos;
+    private final ByteBuffer descriptionOffsets;
+    private final ByteBuffer descriptionLengths;
+    private final ByteBuffer descriptionData;
+    private final int descriptionBytes;
+    private final ByteBuffer estimates;
+    private final String[] estimateValues;
+
+    private ColumnarJobStore(Builder builder, int[] order) {
+        this.size = order.length;
+        this.ids = allocate(size, Integer.BYTES);
+        this.flags = allocate(size, 1);
+        this.seconds = allocate(size, Long.BYTES);
+        this.nanos = allocate(size, Integer.BYTES);
+        this.estimatedNanos = allocate(size, Long.BYTES);
+        this.descriptionOffsets = allocate(size, Integer.BYTES);
+        this.descriptionLengths = allocate(size, Integer.BYTES);
+        this.estimates = allocate(size, Integer.BYTES);
+        this.estimateValues = builder.estimateValues.values().toArray(new String[0]);
+
+        // Apenas as descrições das linhas mantidas, na ordem das linhas
+        var descriptionBytes = 0;
+        for (var source : order) {
+            var length = builder.descriptionLengths.getInt(source * Integer.BYTES);
+            descriptionBytes += Math.max(length, 0);
+        }
+        this.descriptionBytes = descriptionBytes;
+        this.descriptionData = allocate(descriptionBytes, 1);
+        var offset = 0;
+
+        for (var row = 0; row < size; row++) {
+            var source = order[row];
+            ids.putInt(row * Integer.BYTES, builder.ids.getInt(source * Integer.BYTES));
+            flags.put(row, builder.flags.get(source));
+            seconds.putLong(row * Long.BYTES, builder.seconds.getLong(source * Long.BYTES));
+            nanos.putInt(row * Integer.BYTES, builder.nanos.getInt(source * Integer.BYTES));
+            estimatedNanos.putLong(row * Long.BYTES,
+                builder.estimatedNanos.getLong(source * Long.BYTES));
+            estimates.putInt(row * Integer.BYTES, builder.estimates.getInt(source * Integer.BYTES));
+            var length = builder.descriptionLengths.getInt(source * Integer.BYTES);
+            descriptionOffsets.putInt(row * Integer.BYTES, offset);
+            descriptionLengths.putInt(row * Integer.BYTES, length);
+            if (length > 0) {
+                descriptionData.put(offset, builder.descriptionData,
+                    builder.descriptionOffsets.getInt(source * Integer.BYTES), length);
+                offset += length;
+            }
+        }
+    }
+
+    public static ColumnarJobStore of(List<Job> jobs) {
+        return of(jobs.stream());
+    }
+
+    /**
+     * Cria o armazenamento consumindo o Stream de jobs, por exemplo o retornado pelo
+     * {@link JobFileLoader}. Os jobs consumidos não são retidos.
+     *
+     * @param jobs Stream de jobs
+     * @return armazenamento colunar
+     */
+    public static ColumnarJobStore of(Stream<Job> jobs) {
+        var builder = builder();
+        jobs.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retorna a quantidade de bytes das colunas mantidas fora do heap
+     *
+     * @return total em bytes
+     */
+    public long getOffHeapBytes() {
+        return (long) size * ROW_SIZE + descriptionBytes;
+    }
+
+    /**
+     * Cria o job da linha informada, na ordem da data máxima de conclusão
+     *
+     * @param row linha do armazenamento
+     * @return job
+     */
+    public Job get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Linha %d fora do armazenamento de %d jobs", row, size));
+        }
+        var description = description(row);
+        return Job.restore(
+            (flags.get(row) & HAS_ID) != 0 ? ids.getInt(row * Integer.BYTES) : null,
+            description == null ? null : new String(description, StandardCharsets.UTF_8),
+            LocalDateTime.ofEpochSecond(seconds.getLong(row * Long.BYTES),
+                nanos.getInt(row * Integer.BYTES), ZoneOffset.UTC),
+            estimateValues[estimates.getInt(row * Integer.BYTES)],
+            estimatedNanos.getLong(row * Long.BYTES));
+    }
+
+    private byte[] description(int row) {
+        var length = descriptionLengths.getInt(row * Integer.BYTES);
+        if (length == NULL_DESCRIPTION) {
+            return null;
+        }
+        var bytes = new byte[length];
+        descriptionData.get(descriptionOffsets.getInt(row * Integer.BYTES), bytes);
+        return bytes;
+    }
+
+    JobIndex index() {
+        return new Index();
+    }
+
+    private Stream<Job> range(LocalDateTime start, LocalDateTime end) {
+        var from = firstNotBefore(start.toEpochSecond(ZoneOffset.UTC), start.getNano());
+        var to = firstAfter(end.toEpochSecond(ZoneOffset.UTC), end.getNano());
+        if (from >= to) {
+            return Stream.empty();
+        }
+        return IntStream.range(from, to).mapToObj(this::get);
+    }
+
+    private ColumnarJobStore merge(List<Job> jobs) {
+        var replaced = JobIdIndex.of(jobs.stream()
+            .filter(job -> job.getId() != null)
+            .collect(Collectors.toList()));
+        var builder = new Builder(size + jobs.size());
+        for (var row = 0; row < size; row++) {
+            var hasId = (flags.get(row) & HAS_ID) != 0;
+            if (hasId && replaced.contains(ids.getInt(row * Integer.BYTES))) {
+                continue;
+            }
+            builder.append(hasId, ids.getInt(row * Integer.BYTES), description(row),
+                seconds.getLong(row * Long.BYTES), nanos.getInt(row * Integer.BYTES),
+                estimateValues[estimates.getInt(row * Integer.BYTES)],
+                estimatedNanos.getLong(row * Long.BYTES));
+        }
+        jobs.forEach(builder::add);
+        return builder.build();
+    }
+
+    private int firstNotBefore(long second, int nano) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (compare(middle, second, nano) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstAfter(long second, int nano) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (compare(middle, second, nano) > 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int row, long second, int nano) {
+        var result = Long.compare(seconds.getLong(row * Long.BYTES), second);
+        return result != 0 ? result : Integer.compare(nanos.getInt(row * Integer.BYTES), nano);
+    }
+
+    private static ByteBuffer allocate(int rows, int width) {
+        return ByteBuffer.allocateDirect(Math.max(rows, 1) * width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Acumula as linhas em colunas fora do heap, que crescem sob demanda, e ordena as linhas pela
+     * data máxima de conclusão na construção do armazenamento
+     */
+    public static final class Builder {
+
+        private final StringTable estimateValues = new StringTable();
+        private int capacity;
+        private int size;
+        private int descriptionSize;
+        private ByteBuffer ids;
+        private ByteBuffer flags;
+        private ByteBuffer seconds;
+        private ByteBuffer nanos;
+        private ByteBuffer estimatedNanos;
+        private ByteBuffer descriptionOffsets;
+        private ByteBuffer descriptionLengths;
+        private ByteBuffer descriptionData = allocate(0, 1);
+        private ByteBuffer estimates;
+
+        private Builder() {
+            this(1024);
+        }
+
+        private Builder(int capacity) {
+            resize(Math.max(capacity, 16));
+        }
+
+        public Builder add(Job job) {
+            return add(job.getId(), job.getDescription(), job.getDateMaxCompleteProcess(),
+                job.getEstimatedTimeEnd(), job.getEstimatedTimeNanos());
+        }
+
+        /**
+         * Adiciona um job sem criar o objeto {@link Job}, validando o tempo estimado
+         *
+         * @param id                     identificação do job
+         * @param description            descrição do job
+         * @param dateMaxCompleteProcess data máxima de conclusão
+         * @param estimatedTimeEnd       tempo estimado
+         * @return o próprio builder
+         */
+        public Builder add(Integer id, String description, LocalDateTime dateMaxCompleteProcess,
+            String estimatedTimeEnd) {
+            var nanos = EstimatedTimeParser.parse(estimatedTimeEnd);
+            if (nanos == EstimatedTimeParser.INVALID) {
+                SchedulingMetrics.global().recordParseFailure(estimatedTimeEnd);
+                throw new RuntimeException("Data formato inválido");
+            }
+            return add(id, description, dateMaxCompleteProcess,
+                EstimatedTimeParser.normalize(estimatedTimeEnd), nanos);
+        }
+
+        public ColumnarJobStore build() {
+            return new ColumnarJobStore(this, sortedOrder(uniqueRows()));
+        }
+
+        private Builder add(Integer id, String description, LocalDateTime dateMaxCompleteProcess,
+            String estimatedTimeEnd, long estimatedTimeNanos) {
+            if (dateMaxCompleteProcess == null) {
+                throw new IllegalArgumentException(
+                    String.format("Job sem data máxima de conclusão: %s", id));
+            }
+            return append(id != null, id != null ? id : 0,
+                description == null ? null : description.getBytes(StandardCharsets.UTF_8),
+                dateMaxCompleteProcess.toEpochSecond(ZoneOffset.UTC),
+                dateMaxCompleteProcess.getNano(), estimatedTimeEnd, estimatedTimeNanos);
+        }
+
+        private Builder append(boolean hasId, int id, byte[] description, long second, int nano,
+            String estimatedTimeEnd, long estimatedTimeNanos) {
+            if (size == capacity) {
+                if (capacity == MAX_ROWS) {
+                    throw new IllegalStateException(String.format(
+                        "Quantidade máxima de jobs do armazenamento colunar: %d", MAX_ROWS));
+                }
+                resize((int) Math.min((long) capacity * 2, MAX_ROWS));
+            }
+            ids.putInt(size * Integer.BYTES, id);
+            flags.put(size, hasId ? HAS_ID : 0);
+            seconds.putLong(size * Long.BYTES, second);
+            nanos.putInt(size * Integer.BYTES, nano);
+            estimatedNanos.putLong(size * Long.BYTES, estimatedTimeNanos);
+            descriptionOffsets.putInt(size * Integer.BYTES, descriptionSize);
+            descriptionLengths.putInt(size * Integer.BYTES,
+                description == null ? NULL_DESCRIPTION : description.length);
+            if (description != null) {
+                appendDescription(description);
+            }
+            estimates.putInt(size * Integer.BYTES, estimateValues.reference(estimatedTimeEnd));
+            size++;
+            return this;
+        }
+
+        private void appendDescription(byte[] description) {
+            var required = (long) descriptionSize + description.length;
+            if (required > descriptionData.capacity()) {
+                if (required > MAX_DESCRIPTION_BYTES) {
+                    throw new IllegalStateException(String.format(
+                        "Tamanho máximo das descrições do armazenamento colunar: %d bytes",
+                        MAX_DESCRIPTION_BYTES));
+                }
+                var grown = allocate((int) Math.min(
+                    Math.max(required, (long) descriptionData.capacity() * 2),
+                    MAX_DESCRIPTION_BYTES), 1);
+                grown.put(0, descriptionData, 0, descriptionSize);
+                descriptionData = grown;
+            }
+            descriptionData.put(descriptionSize, description);
+            descriptionSize += description.length;
+        }
+
+        private void resize(int newCapacity) {
+            ids = grow(ids, newCapacity, Integer.BYTES);
+            flags = grow(flags, newCapacity, 1);
+            seconds = grow(seconds, newCapacity, Long.BYTES);
+            nanos = grow(nanos, newCapacity, Integer.BYTES);
+            estimatedNanos = grow(estimatedNanos, newCapacity, Long.BYTES);
+            descriptionOffsets = grow(descriptionOffsets, newCapacity, Integer.BYTES);
+            descriptionLengths = grow(descriptionLengths, newCapacity, Integer.BYTES);
+            estimates = grow(estimates, newCapacity, Integer.BYTES);
+            capacity = newCapacity;
+        }
+
+        private ByteBuffer grow(ByteBuffer column, int newCapacity, int width) {
+            var grown = allocate(newCapacity, width);
+            if (column != null) {
+                grown.put(column.duplicate().position(0).limit(size * width));
+                grown.clear();
+            }
+            return grown;
+        }
+
+        /**
+         * Remove as linhas com identificação repetida. Prevalece a última linha de cada
+         * identificação, na posição da primeira. Linhas sem identificação são mantidas.
+         *
+         * @return linhas mantidas, na ordem de inclusão
+         */
+        private int[] uniqueRows() {
+            var latest = new IntIntMap(size);
+            var duplicated = false;
+            for (var row = 0; row < size; row++) {
+                if ((flags.get(row) & HAS_ID) != 0) {
+                    duplicated |= latest.put(ids.getInt(row * Integer.BYTES), row)
+                        != IntIntMap.ABSENT;
+                }
+            }
+            var rows = new int[duplicated ? latest.size() + (size - countIds()) : size];
+            var position = 0;
+            for (var row = 0; row < size; row++) {
+                if (!duplicated || (flags.get(row) & HAS_ID) == 0) {
+                    rows[position++] = row;
+                    continue;
+                }
+                var source = latest.remove(ids.getInt(row * Integer.BYTES));
+                if (source != IntIntMap.ABSENT) {
+                    rows[position++] = source;
+                }
+            }
+            return rows;
+        }
+
+        private int countIds() {
+            var count = 0;
+            for (var row = 0; row < size; row++) {
+                if ((flags.get(row) & HAS_ID) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Ordena as linhas pela data máxima de conclusão de forma estável, com radix sort
+         * ({@link DeadlineSort}) para conjuntos grandes e merge sort nos demais
+         *
+         * @param rows linhas mantidas, na ordem de inclusão
+         * @return índice da linha de origem para cada posição ordenada
+         */
+        private int[] sortedOrder(int[] rows) {
+            var count = rows.length;
+            var order = rows.clone();
+            var sorted = true;
+            for (var index = 1; index < count && sorted; index++) {
+                sorted = compare(order[index - 1], order[index]) <= 0;
+            }
+            if (sorted) {
+                return order;
+            }
+
+            var keys = radixKeys(rows);
+            if (keys != null) {
+                var positions = DeadlineSort.order(keys);
+                for (var index = 0; index < count; index++) {
+                    order[index] = rows[positions[index]];
+                }
+                return order;
+            }
+
+            var buffer = new int[count];
+            for (var width = 1; width < count; width *= 2) {
+                for (var left = 0; left < count; left += 2 * width) {
+                    var middle = Math.min(left + width, count);
+                    var right = Math.min(left + 2 * width, count);
+                    var i = left;
+                    var j = middle;
+                    var k = left;
+                    while (i < middle && j < right) {
+                        buffer[k++] = compare(order[j], order[i]) < 0 ? order[j++] : order[i++];
+                    }
+                    while (i < middle) {
+                        buffer[k++] = order[i++];
+                    }
+                    while (j < right) {
+                        buffer[k++] = order[j++];
+                    }
+                }
+                var swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+            return order;
+        }
+
+        private long[] radixKeys(int[] rows) {
+            if (rows.length < DeadlineSort.RADIX_THRESHOLD) {
+                return null;
+            }
+            var rowSeconds = new long[rows.length];
+            var rowNanos = new int[rows.length];
+            for (var index = 0; index < rows.length; index++) {
+                rowSeconds[index] = seconds.getLong(rows[index] * Long.BYTES);
+                rowNanos[index] = nanos.getInt(rows[index] * Integer.BYTES);
+            }
+            return DeadlineSort.keys(rowSeconds, rowNanos);
+        }
+
+        private int compare(int left, int right) {
+            var result = Long.compare(seconds.getLong(left * Long.BYTES),
+                seconds.getLong(right * Long.BYTES));
+            return result != 0
+                ? result
+                : Integer.compare(nanos.getInt(left * Integer.BYTES),
+                    nanos.getInt(right * Integer.BYTES));
+        }
+    }
+
+    /**
+     * Índice do {@link FilterJobs} sobre o armazenamento. Os jobs criados são cópias, por isso o
+     * índice nunca fica desatualizado.
+     */
+    private final class Index implements JobIndex {
+
+        @Override
+        public Stream<Job> range(LocalDateTime start, LocalDateTime end) {
+            return ColumnarJobStore.this.range(start, end);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isStale() {
+            return false;
+        }
+
+        @Override
+        public JobIndex refresh() {
+            return this;
+        }
+
+        @Override
+        public JobIndex merge(List<Job> jobs) {
+            return ColumnarJobStore.this.merge(jobs).index();
+        }
+    }
+}
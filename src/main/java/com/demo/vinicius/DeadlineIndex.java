@@ -0,0 +1,146 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice de jobs ordenado pela data máxima de conclusão. A ordenação é feita uma única vez na
+ * construção e é estável, preservando a ordem original entre jobs com a mesma data. Conjuntos
+ * grandes são ordenados por radix sort ({@link DeadlineSort}).
+ *
+ * <p>Entre jobs com a mesma identificação é mantido apenas o último informado ({@link
+ * JobIdIndex#deduplicate}), inclusive na inclusão de novos jobs.
+ *
+ * <p>O índice guarda a revisão das datas ({@link Job#deadlineRevision()}) do momento da ordenação.
+ * Quando alguma data é alterada apenas os jobs do próprio índice são verificados, e alterações em
+ * jobs de outros índices ou no tempo estimado não exigem reordenação.
+ */
+final class DeadlineIndex implements JobIndex {
+
+    private static final Comparator<Job> BY_DEADLINE =
+        Comparator.comparing(Job::getDateMaxCompleteProcess, Comparator.naturalOrder());
+
+    private final Job[] sorted;
+    private volatile long revision;
+
+    private DeadlineIndex(Job[] sorted, long revision) {
+        this.sorted = sorted;
+        this.revision = revision;
+    }
+
+    static DeadlineIndex of(List<Job> jobs) {
+        return of(JobIdIndex.deduplicate(jobs.toArray(new Job[0])));
+    }
+
+    static DeadlineIndex of(Stream<Job> jobs) {
+        return of(JobIdIndex.deduplicate(jobs.toArray(Job[]::new)));
+    }
+
+    private static DeadlineIndex of(Job[] sorted) {
+        var revision = Job.deadlineRevision();
+        if (!DeadlineSort.sort(sorted)) {
+            Arrays.sort(sorted, BY_DEADLINE);
+        }
+        return new DeadlineIndex(sorted, revision);
+    }
+
+    @Override
+    public boolean isStale() {
+        var latest = Job.deadlineRevision();
+        if (latest == revision) {
+            return false;
+        }
+        for (var job : sorted) {
+            if (job.deadlineChangedSince(revision)) {
+                return true;
+            }
+        }
+        // Nenhum job do índice foi alterado, as próximas verificações partem da revisão atual
+        revision = latest;
+        return false;
+    }
+
+    @Override
+    public DeadlineIndex refresh() {
+        return of(sorted.clone());
+    }
+
+    @Override
+    public DeadlineIndex merge(List<Job> jobs) {
+        var added = of(jobs);
+        var replaced = new JobIdIndex(added.sorted.length);
+        for (var job : added.sorted) {
+            if (job.getId() != null) {
+                replaced.put(job);
+            }
+        }
+        var sorted = replaced.size() == 0
+            ? this.sorted
+            : Arrays.stream(this.sorted)
+                .filter(job -> job.getId() == null || !replaced.contains(job.getId()))
+                .toArray(Job[]::new);
+
+        var merged = new Job[sorted.length + added.sorted.length];
+        var left = 0;
+        var right = 0;
+        var index = 0;
+        while (left < sorted.length && right < added.sorted.length) {
+            merged[index++] = BY_DEADLINE.compare(added.sorted[right], sorted[left]) < 0
+                ? added.sorted[right++]
+                : sorted[left++];
+        }
+        while (left < sorted.length) {
+            merged[index++] = sorted[left++];
+        }
+        while (right < added.sorted.length) {
+            merged[index++] = added.sorted[right++];
+        }
+        return new DeadlineIndex(merged, Math.min(revision, added.revision));
+    }
+
+    @Override
+    public Stream<Job> range(LocalDateTime start, LocalDateTime end) {
+        var from = firstNotBefore(start);
+        var to = firstAfter(end);
+        if (from >= to) {
+            return Stream.empty();
+        }
+        return Arrays.stream(sorted, from, to);
+    }
+
+    @Override
+    public int size() {
+        return sorted.length;
+    }
+
+    private int firstNotBefore(LocalDateTime date) {
+        var low = 0;
+        var high = sorted.length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (sorted[middle].getDateMaxCompleteProcess().isBefore(date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int firstAfter(LocalDateTime date) {
+        var low = 0;
+        var high = sorted.length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (sorted[middle].getDateMaxCompleteProcess().isAfter(date)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
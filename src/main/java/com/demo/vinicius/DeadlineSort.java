@@ -0,0 +1,149 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Ordenação estável por data máxima de conclusão com radix sort LSD sobre chaves primitivas. As
+ * datas são convertidas em nanossegundos a partir da menor data, o que evita comparar
+ * {@link LocalDateTime} campo a campo.
+ *
+ * <p>O radix sort é utilizado a partir de {@link #RADIX_THRESHOLD} jobs e quando o intervalo entre
+ * a menor e a maior data cabe em um {@code long} de nanossegundos, cerca de 292 anos. Nos demais
+ * casos a ordenação fica a cargo do comparator.
+ */
+final class DeadlineSort {
+
+    static final int RADIX_THRESHOLD = 1 << 12;
+
+    private static final int DIGIT_BITS = 11;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MAX_SPAN_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
+    private DeadlineSort() {
+    }
+
+    /**
+     * Calcula as chaves de ordenação a partir dos segundos UTC e nanos de cada data
+     *
+     * @param seconds segundos UTC de cada data
+     * @param nanos   nanos de cada data
+     * @return chaves em nanossegundos a partir da menor data, ou {@code null} quando o intervalo
+     *     não cabe em um {@code long} ou a quantidade é menor que {@link #RADIX_THRESHOLD}
+     */
+    static long[] keys(long[] seconds, int[] nanos) {
+        var size = seconds.length;
+        if (size < RADIX_THRESHOLD) {
+            return null;
+        }
+
+        var min = Long.MAX_VALUE;
+        var max = Long.MIN_VALUE;
+        for (var second : seconds) {
+            min = Math.min(min, second);
+            max = Math.max(max, second);
+        }
+        if (max - min > MAX_SPAN_SECONDS || max - min < 0) {
+            return null;
+        }
+
+        var keys = new long[size];
+        for (var index = 0; index < size; index++) {
+            keys[index] = (seconds[index] - min) * NANOS_PER_SECOND + nanos[index];
+        }
+        return keys;
+    }
+
+    /**
+     * Ordena os jobs pela data máxima de conclusão, preservando a ordem original entre datas
+     * iguais
+     *
+     * @param jobs jobs a serem ordenados
+     * @return {@code true} quando os jobs foram ordenados, {@code false} quando a quantidade ou o
+     *     intervalo de datas exige o comparator
+     */
+    static boolean sort(Job[] jobs) {
+        if (jobs.length < RADIX_THRESHOLD) {
+            return false;
+        }
+
+        var seconds = new long[jobs.length];
+        var nanos = new int[jobs.length];
+        for (var index = 0; index < jobs.length; index++) {
+            var deadline = jobs[index].getDateMaxCompleteProcess();
+            seconds[index] = deadline.toEpochSecond(ZoneOffset.UTC);
+            nanos[index] = deadline.getNano();
+        }
+        var keys = keys(seconds, nanos);
+        if (keys == null) {
+            return false;
+        }
+
+        var order = order(keys);
+        var source = jobs.clone();
+        for (var index = 0; index < jobs.length; index++) {
+            jobs[index] = source[order[index]];
+        }
+        return true;
+    }
+
+    /**
+     * Retorna a permutação estável que ordena as chaves, com uma passada de counting sort por
+     * dígito de {@value #DIGIT_BITS} bits. Passadas em que todas as chaves têm o mesmo dígito são
+     * ignoradas.
+     *
+     * @param keys chaves não negativas
+     * @return posição de origem de cada posição ordenada
+     */
+    static int[] order(long[] keys) {
+        var size = keys.length;
+        var order = new int[size];
+        var sorted = true;
+        var max = 0L;
+        for (var index = 0; index < size; index++) {
+            order[index] = index;
+            max = Math.max(max, keys[index]);
+            if (index > 0 && keys[index - 1] > keys[index]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+
+        var sourceKeys = keys.clone();
+        var targetKeys = new long[size];
+        var targetOrder = new int[size];
+        var counts = new int[BUCKETS + 1];
+        var bits = Long.SIZE - Long.numberOfLeadingZeros(max);
+
+        for (var shift = 0; shift < bits; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (var key : sourceKeys) {
+                counts[(int) ((key >>> shift) & (BUCKETS - 1)) + 1]++;
+            }
+            if (counts[(int) ((sourceKeys[0] >>> shift) & (BUCKETS - 1)) + 1] == size) {
+                continue;
+            }
+            for (var bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket + 1] += counts[bucket];
+            }
+            for (var index = 0; index < size; index++) {
+                var key = sourceKeys[index];
+                var position = counts[(int) ((key >>> shift) & (BUCKETS - 1))]++;
+                targetKeys[position] = key;
+                targetOrder[position] = order[index];
+            }
+
+            var swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            var swapOrder = order;
+            order = targetOrder;
+            targetOrder = swapOrder;
+        }
+        return order;
+    }
+}
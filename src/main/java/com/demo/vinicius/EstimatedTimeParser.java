@@ -0,0 +1,168 @@
+package com.demo.vinicius;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parser do tempo estimado de execução de um {@link Job} sem uso de regex e sem alocação.
+ *
+ * <p>Formatos aceitos: {@code H}, {@code HH:mm}, {@code HH:mm:ss} e {@code HH:mm:ss:SS}, onde o
+ * último campo representa milissegundos.
+ */
+final class EstimatedTimeParser {
+
+    static final long INVALID = -1L;
+
+    private static final long NANOS_PER_HOUR = TimeUnit.HOURS.toNanos(1);
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private EstimatedTimeParser() {
+    }
+
+    /**
+     * Converte o tempo estimado em nanossegundos
+     *
+     * @param text tempo estimado
+     * @return total em nanossegundos ou {@link #INVALID} quando o formato é inválido
+     */
+    static long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Converte o trecho {@code [from, to)} do texto em nanossegundos
+     *
+     * @param text texto de origem
+     * @param from índice inicial (inclusivo)
+     * @param to   índice final (exclusivo)
+     * @return total em nanossegundos ou {@link #INVALID} quando o formato é inválido
+     */
+    static long parse(CharSequence text, int from, int to) {
+        var length = to - from;
+        if (length <= 0) {
+            return INVALID;
+        }
+
+        if (length <= 2 && isDigits(text, from, to)) {
+            return number(text, from, to) * NANOS_PER_HOUR;
+        }
+
+        var hoursEnd = indexOfColon(text, from, to);
+        if (hoursEnd < 0 || hoursEnd - from < 1 || hoursEnd - from > 2
+            || !isDigits(text, from, hoursEnd)) {
+            return INVALID;
+        }
+        var hours = number(text, from, hoursEnd);
+        if (hours > 23) {
+            return INVALID;
+        }
+
+        var total = hours * NANOS_PER_HOUR;
+        var position = hoursEnd + 1;
+
+        var minutes = sexagesimal(text, position, to);
+        if (minutes < 0) {
+            return INVALID;
+        }
+        total += minutes * NANOS_PER_MINUTE;
+        position += 2;
+        if (position == to) {
+            return total;
+        }
+
+        if (text.charAt(position) != ':') {
+            return INVALID;
+        }
+        var seconds = sexagesimal(text, position + 1, to);
+        if (seconds < 0) {
+            return INVALID;
+        }
+        total += seconds * NANOS_PER_SECOND;
+        position += 3;
+        if (position == to) {
+            return total;
+        }
+
+        if (text.charAt(position) != ':') {
+            return INVALID;
+        }
+        var millisLength = to - position - 1;
+        if (millisLength < 1 || millisLength > 2 || !isDigits(text, position + 1, to)) {
+            return INVALID;
+        }
+        return total + number(text, position + 1, to) * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Completa o tempo estimado para o formato {@code HH:mm:ss:SS}. Deve receber apenas valores
+     * previamente validados por {@link #parse(CharSequence)}.
+     *
+     * @param text tempo estimado válido
+     * @return tempo estimado no formato completo
+     */
+    static String normalize(String text) {
+        switch (countColons(text)) {
+            case 0:
+                return text + ":00:00:00";
+            case 1:
+                return text + ":00:00";
+            case 2:
+                return text + ":00";
+            default:
+                return text;
+        }
+    }
+
+    private static long sexagesimal(CharSequence text, int from, int to) {
+        if (to - from < 2) {
+            return INVALID;
+        }
+        var tens = text.charAt(from);
+        var units = text.charAt(from + 1);
+        if (tens < '0' || tens > '5' || !isDigit(units)) {
+            return INVALID;
+        }
+        return (tens - '0') * 10L + (units - '0');
+    }
+
+    private static int indexOfColon(CharSequence text, int from, int to) {
+        for (var index = from; index < to; index++) {
+            if (text.charAt(index) == ':') {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int countColons(CharSequence text) {
+        var count = 0;
+        for (var index = 0; index < text.length(); index++) {
+            if (text.charAt(index) == ':') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isDigits(CharSequence text, int from, int to) {
+        for (var index = from; index < to; index++) {
+            if (!isDigit(text.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static long number(CharSequence text, int from, int to) {
+        var value = 0L;
+        for (var index = from; index < to; index++) {
+            value = value * 10 + (text.charAt(index) - '0');
+        }
+        return value;
+    }
+}
@@ -2,10 +2,13 @@ package com.demo.vinicius;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
@@ -13,9 +16,309 @@ import lombok.AllArgsConstructor;
 public class FilterJobs {
 
     private final Duration maxDuration;
-    private final List<Job> jobs;
+    private volatile JobIndex index;
+    private final boolean parallel;
+    private final PackingStrategy packingStrategy;
+    private final SeparatedJobsCache cache;
+    private final WindowPartitioner partitioner;
 
     public List<List<Job>> separatedJobs(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+
+        var event = new SeparatedJobsEvent();
+        event.begin();
+
+        var batches = cache == null
+            ? computeSeparatedJobs(start, end)
+            : cachedSeparatedJobs(start, end, event);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.windowStart = start.toString();
+            event.windowEnd = end.toString();
+            event.strategy = packingStrategy.name();
+            event.parallel = parallel;
+            event.batches = batches.size();
+            event.jobs = batches.stream().mapToInt(List::size).sum();
+            event.commit();
+        }
+        return batches;
+    }
+
+    /**
+     * Separa as listas de execução entre duas datas sob demanda. Cada lista é emitida assim que é
+     * fechada, sem o mapa intermediário do {@link CollectorJobs}, de modo que o tempo até a
+     * primeira lista e a memória utilizada não crescem com o tamanho da janela. O resultado é o
+     * mesmo de {@link #separatedJobs}, sem passar pelo cache.
+     *
+     * <p>Apenas a estratégia {@link PackingStrategy#NEXT_FIT} é emitida sob demanda, as demais
+     * dependem de todos os jobs do range e são calculadas antes da primeira lista.
+     *
+     * @param start data de início do range
+     * @param end   data fim do range
+     * @return Stream ordenado de listas de execução
+     */
+    public Stream<List<Job>> streamSeparatedJobs(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+        if (packingStrategy != PackingStrategy.NEXT_FIT) {
+            return computeSeparatedJobs(start, end).stream();
+        }
+        var jobs = getStreamSeparateByRange(start, end).spliterator();
+        return StreamSupport.stream(new NextFitSpliterator(jobs, maxDuration.toNanos()), false);
+    }
+
+    /**
+     * Publica as listas de execução entre duas datas conforme a demanda do assinante. O filtro e o
+     * agrupamento de {@link #streamSeparatedJobs} avançam apenas a quantidade de listas
+     * solicitadas e o cancelamento interrompe o processamento. Os sinais são emitidos no
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param start data de início do range
+     * @param end   data fim do range
+     * @return Publisher das listas de execução, na ordem de {@link #separatedJobs}
+     */
+    public Flow.Publisher<List<Job>> publishSeparatedJobs(LocalDateTime start,
+        LocalDateTime end) {
+        return publishSeparatedJobs(start, end, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Publica as listas de execução entre duas datas conforme a demanda do assinante, emitindo os
+     * sinais no executor informado
+     *
+     * @param start    data de início do range
+     * @param end      data fim do range
+     * @param executor executor dos sinais de cada assinatura
+     * @return Publisher das listas de execução, na ordem de {@link #separatedJobs}
+     */
+    public Flow.Publisher<List<Job>> publishSeparatedJobs(LocalDateTime start, LocalDateTime end,
+        Executor executor) {
+        validateRange(start, end);
+        return new BatchPublisher(() -> streamSeparatedJobs(start, end), executor);
+    }
+
+    private List<List<Job>> cachedSeparatedJobs(LocalDateTime start, LocalDateTime end,
+        SeparatedJobsEvent event) {
+        // Reordena o índice antes da consulta, o que limpa o cache quando algum job mudou de data
+        var current = currentIndex();
+        var key = new SeparatedJobsCache.Key(current, start, end, maxDuration, packingStrategy);
+        var cached = cache.get(key);
+        if (cached != null) {
+            event.cacheHit = true;
+            return cached;
+        }
+
+        var revision = Job.revision();
+        var generation = cache.generation();
+        var batches = computeSeparatedJobs(current, start, end).stream()
+            .map(List::copyOf)
+            .collect(Collectors.toUnmodifiableList());
+        cache.put(key, revision, generation, batches);
+        return batches;
+    }
+
+    /**
+     * Adiciona jobs ao índice do filtro. Os jobs com a mesma data máxima de conclusão de jobs já
+     * existentes são posicionados após eles e substituem os jobs existentes com a mesma
+     * identificação. O cache de resultados, quando habilitado, é limpo.
+     *
+     * @param jobs jobs adicionados
+     */
+    public synchronized void addJobs(List<Job> jobs) {
+        index = currentIndex().merge(jobs);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private List<List<Job>> computeSeparatedJobs(LocalDateTime start, LocalDateTime end) {
+        return computeSeparatedJobs(currentIndex(), start, end);
+    }
+
+    private List<List<Job>> computeSeparatedJobs(JobIndex index, LocalDateTime start,
+        LocalDateTime end) {
+        var metrics = SchedulingMetrics.global();
+        if (partitioner != null && packingStrategy == PackingStrategy.NEXT_FIT) {
+            // As partições consultam o índice diretamente, sem o stream do range completo
+            var timer = metrics.start(PlanningPhase.COLLECT);
+            var container = PartitionedPlanning.plan(index, start, end, partitioner,
+                maxDuration.toNanos());
+            timer.stop();
+            return List.copyOf(CollectorJobs.finish(container));
+        }
+
+        var timer = metrics.start(PlanningPhase.RANGE);
+        var stream = index.range(start, end);
+        timer.stop();
+
+        if (packingStrategy != PackingStrategy.NEXT_FIT) {
+            timer = metrics.start(PlanningPhase.PACK);
+            var jobs = stream.collect(Collectors.toList());
+            var batches = packingStrategy.pack(jobs, maxDuration.toNanos());
+            timer.stop();
+
+            var totalNanos = 0L;
+            for (var job : jobs) {
+                totalNanos += job.getEstimatedTimeNanos();
+            }
+            metrics.recordBatches(jobs.size(), batches.size(), totalNanos, maxDuration.toNanos());
+            return List.copyOf(batches);
+        }
+
+        if (parallel) {
+            stream = stream.parallel();
+        }
+
+        timer = metrics.start(PlanningPhase.COLLECT);
+        var jobsToExecution = stream.collect(CollectorJobs.toBatches(maxDuration));
+        timer.stop();
+        return List.copyOf(jobsToExecution);
+    }
+
+    /**
+     * Separa as listas de execução entre duas datas e reduz a quantidade de listas com o
+     * {@link BatchOptimizer} dentro do tempo limite informado
+     *
+     * @param start  data de início do range
+     * @param end    data fim do range
+     * @param budget tempo limite da otimização
+     * @return melhor agrupamento encontrado dentro do tempo limite
+     */
+    public List<List<Job>> optimizedJobs(LocalDateTime start, LocalDateTime end, Duration budget) {
+        return new BatchOptimizer(maxDuration, budget).optimize(separatedJobs(start, end));
+    }
+
+    /**
+     * Separa as listas de execução entre duas datas e retorna o resumo da quantidade de listas e
+     * do preenchimento em relação à duração máxima
+     *
+     * @param start data de início do range
+     * @param end   data fim do range
+     * @return resumo das listas de execução
+     */
+    public PackingReport report(LocalDateTime start, LocalDateTime end) {
+        return PackingReport.of(packingStrategy, separatedJobs(start, end), maxDuration);
+    }
+
+    /**
+     * Posiciona as listas de execução em sequência a partir da data de início, calculando início
+     * e término de cada job. Os jobs retirados para que a maior quantidade de jobs seja concluída
+     * até a data máxima são reportados como não agendados. As listas são sempre agrupadas pelo
+     * {@link PackingStrategy#NEXT_FIT}, independente da estratégia do filtro.
+     *
+     * @param start data de início da janela de execução
+     * @param end   data fim da janela de execução
+     * @return linha do tempo das listas de execução
+     */
+    public Schedule schedule(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+        return TimelineScheduler.schedule(getStreamSeparateByRange(start, end), start,
+            maxDuration.toNanos());
+    }
+
+    /**
+     * Separa as listas de execução e as distribui entre workers paralelos, atribuindo cada lista
+     * ao worker disponível mais cedo na ordem da menor data máxima de conclusão
+     *
+     * @param start   data de início da janela de execução
+     * @param end     data fim da janela de execução
+     * @param workers quantidade de workers
+     * @return linha do tempo de cada worker
+     */
+    public ClusterSchedule schedule(LocalDateTime start, LocalDateTime end, int workers) {
+        return WorkerScheduler.schedule(separatedJobs(start, end), start, workers);
+    }
+
+    /**
+     * Cria o planejamento incremental da janela a partir dos jobs atuais do filtro, para
+     * reagrupar apenas as listas afetadas por inclusões, remoções e alterações de jobs
+     *
+     * @param start data de início da janela de execução
+     * @param end   data fim da janela de execução
+     * @return planejamento incremental com as mesmas listas de {@link #separatedJobs}
+     */
+    public IncrementalPlanner planner(LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+        if (packingStrategy != PackingStrategy.NEXT_FIT) {
+            throw new IllegalStateException(String.format(
+                "Planejamento incremental disponível apenas para NEXT_FIT: %s", packingStrategy));
+        }
+        return new IncrementalPlanner(getStreamSeparateByRange(start, end), start, end,
+            maxDuration.toNanos());
+    }
+
+    /**
+     * Retorna um filtro com os mesmos jobs que separa as listas de execução utilizando stream
+     * paralelo. O resultado é idêntico ao da execução sequencial. Apenas a estratégia
+     * {@link PackingStrategy#NEXT_FIT} é paralelizada, as demais dependem de todas as listas
+     * abertas.
+     *
+     * @return filtro em modo paralelo
+     */
+    public FilterJobs parallel() {
+        return new FilterJobs(maxDuration, currentIndex(), true, packingStrategy, cache,
+            partitioner);
+    }
+
+    /**
+     * Retorna um filtro com os mesmos jobs que divide a janela de {@link #separatedJobs} em
+     * partições, como dias ou turnos, e planeja cada partição no {@link ForkJoinPool}. As listas
+     * da fronteira entre partições são unidas quando cabem na duração máxima e o resultado é
+     * idêntico ao da execução sequencial. Apenas a estratégia {@link PackingStrategy#NEXT_FIT} é
+     * particionada.
+     *
+     * @param partitioner divisão da janela em partições
+     * @return filtro em modo particionado
+     */
+    public FilterJobs partitioned(WindowPartitioner partitioner) {
+        return new FilterJobs(maxDuration, currentIndex(), parallel, packingStrategy, cache,
+            partitioner);
+    }
+
+    /**
+     * Retorna um filtro com os mesmos jobs que guarda os resultados de {@link #separatedJobs} no
+     * cache informado. Os resultados em cache são imutáveis e indexados também pelo índice de jobs
+     * do filtro, de modo que o cache pode ser compartilhado entre filtros com jobs diferentes.
+     *
+     * @param cache cache de resultados
+     * @return filtro com cache
+     */
+    public FilterJobs withCache(SeparatedJobsCache cache) {
+        return new FilterJobs(maxDuration, currentIndex(), parallel, packingStrategy, cache,
+            partitioner);
+    }
+
+    /**
+     * Retornar um Stream de jobs entre duas dadas utilizando a abordagem inclusiva. O range é
+     * localizado por busca binária no índice de datas construído em {@link #createFilter}, já na
+     * ordem da menor para a maior data máxima de conclusão. O índice é reordenado quando algum
+     * job do filtro teve a data máxima de conclusão alterada.
+     *
+     * @param start data de início do range
+     * @param end   data fim do range
+     * @return Stream de jobs
+     */
+    Stream<Job> getStreamSeparateByRange(LocalDateTime start, LocalDateTime end) {
+        return currentIndex().range(start, end);
+    }
+
+    private JobIndex currentIndex() {
+        var current = index;
+        if (!current.isStale()) {
+            return current;
+        }
+        synchronized (this) {
+            if (index.isStale()) {
+                index = index.refresh();
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+            return index;
+        }
+    }
+
+    private void validateRange(LocalDateTime start, LocalDateTime end) {
         if (Duration.between(start, end).isNegative() || Duration.between(start, end).isZero()) {
             throw new IllegalArgumentException(
                 String.format("Datas informadas são inválidas data de início: %s data fim: %s",
@@ -24,35 +327,55 @@ public class FilterJobs {
                 )
             );
         }
+    }
 
-        var jobsToExecution = getStreamSeparateByRange(start, end)
-            .collect(new CollectorJobs(maxDuration))
-            .values();
-        return List.copyOf(jobsToExecution);
+    /**
+     * Cria o filtro com os jobs informados. Entre jobs com a mesma identificação é mantido apenas
+     * o último, na posição do primeiro.
+     *
+     * @param jobs            jobs
+     * @param maxHourDuration duração máxima em horas de cada lista de execução
+     * @return filtro de jobs
+     */
+    public static FilterJobs createFilter(List<Job> jobs, int maxHourDuration) {
+        return createFilter(jobs, maxHourDuration, PackingStrategy.NEXT_FIT);
     }
 
     /**
-     * Retornar um Stream de jobs entre duas dadas utilizando a abordagem inclusiva
+     * Cria o filtro consumindo o Stream de jobs, por exemplo o retornado pelo
+     * {@link JobFileLoader}, sem materializar uma lista intermediária. Entre jobs com a mesma
+     * identificação é mantido apenas o último.
      *
-     * @param start data de início do range
-     * @param end   data fim do range
-     * @return Stream de jobs
+     * @param jobs            Stream de jobs
+     * @param maxHourDuration duração máxima em horas de cada lista de execução
+     * @return filtro de jobs
      */
-    Stream<Job> getStreamSeparateByRange(LocalDateTime start, LocalDateTime end) {
-        return jobs.stream()
-            .filter(filterJobsRangeDate(start, end))
-            .sorted(
-                Comparator.comparing(Job::getDateMaxCompleteProcess, Comparator.naturalOrder()));
+    public static FilterJobs createFilter(Stream<Job> jobs, int maxHourDuration) {
+        return new FilterJobs(Duration.ofHours(maxHourDuration), DeadlineIndex.of(jobs), false,
+            PackingStrategy.NEXT_FIT, null, null);
     }
 
-    private Predicate<Job> filterJobsRangeDate(LocalDateTime start, LocalDateTime end) {
-        return job -> {
-            var dateMaxCompleteProcess = job.getDateMaxCompleteProcess();
-            return !dateMaxCompleteProcess.isBefore(start) && !dateMaxCompleteProcess.isAfter(end);
-        };
+    public static FilterJobs createFilter(List<Job> jobs, int maxHourDuration,
+        PackingStrategy packingStrategy) {
+        return new FilterJobs(Duration.ofHours(maxHourDuration), DeadlineIndex.of(jobs), false,
+            packingStrategy, null, null);
     }
 
-    public static FilterJobs createFilter(List<Job> jobs, int maxHourDuration) {
-        return new FilterJobs(Duration.ofHours(maxHourDuration), jobs);
+    /**
+     * Cria o filtro sobre o armazenamento colunar, mantido fora do heap. Os objetos {@link Job}
+     * são criados apenas para os jobs do range consultado e são cópias dos dados armazenados.
+     *
+     * @param store           armazenamento colunar
+     * @param maxHourDuration duração máxima em horas de cada lista de execução
+     * @return filtro de jobs
+     */
+    public static FilterJobs createFilter(ColumnarJobStore store, int maxHourDuration) {
+        return createFilter(store, maxHourDuration, PackingStrategy.NEXT_FIT);
+    }
+
+    public static FilterJobs createFilter(ColumnarJobStore store, int maxHourDuration,
+        PackingStrategy packingStrategy) {
+        return new FilterJobs(Duration.ofHours(maxHourDuration), store.index(), false,
+            packingStrategy, null, null);
     }
 }
@@ -0,0 +1,274 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Mantém as listas de execução de uma janela e as reagrupa de forma incremental quando jobs são
+ * incluídos, removidos ou alterados, com a mesma regra do {@link CollectorJobs}.
+ *
+ * <p>As listas ficam em uma árvore ordenada pelo primeiro job de cada lista. Uma alteração
+ * reagrupa apenas a lista afetada, a anterior, que pode absorver jobs, e as seguintes até que uma
+ * nova lista comece no mesmo job de uma lista existente, a partir de onde o agrupamento é
+ * idêntico. O custo depende das listas alteradas e não do tamanho da janela.
+ *
+ * <p>Jobs com a mesma data máxima de conclusão são mantidos pela ordem de inclusão no
+ * planejamento, inclusive após alterações. Os jobs são localizados pela identificação
+ * ({@link Job#getId()}), de modo que a alteração pode ser informada com outra instância do job.
+ */
+public class IncrementalPlanner {
+
+    private static final Comparator<Entry> BY_DEADLINE = Comparator
+        .comparing((Entry entry) -> entry.deadline)
+        .thenComparingLong(entry -> entry.sequence);
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final long maxNanos;
+    private final TreeMap<Entry, Batch> batches = new TreeMap<>(BY_DEADLINE);
+    private final IntMap<Entry> entries = new IntMap<>(0);
+    private long sequence;
+
+    IncrementalPlanner(Stream<Job> jobs, LocalDateTime start, LocalDateTime end, long maxNanos) {
+        this.start = start;
+        this.end = end;
+        this.maxNanos = maxNanos;
+
+        var packed = new ArrayList<Entry>();
+        var packedNanos = 0L;
+        for (var iterator = jobs.iterator(); iterator.hasNext(); ) {
+            var entry = entry(iterator.next(), sequence++);
+            if (entries.put(id(entry.job), entry) != null) {
+                throw duplicated(entry.job);
+            }
+            if (!packed.isEmpty() && packedNanos + entry.nanos > maxNanos) {
+                add(new Batch(packed));
+                packed = new ArrayList<>();
+                packedNanos = 0L;
+            }
+            packed.add(entry);
+            packedNanos += entry.nanos;
+        }
+        if (!packed.isEmpty()) {
+            add(new Batch(packed));
+        }
+    }
+
+    /**
+     * Retorna as listas de execução atuais, na ordem da menor data máxima de conclusão
+     *
+     * @return listas de execução imutáveis
+     */
+    public synchronized List<List<Job>> batches() {
+        var result = new ArrayList<List<Job>>(batches.size());
+        for (var batch : batches.values()) {
+            result.add(batch.view);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Inclui o job no planejamento. Jobs fora da janela são ignorados.
+     *
+     * @param job job incluído
+     * @return listas de execução alteradas
+     */
+    public synchronized PlanDiff insert(Job job) {
+        if (entries.get(id(job)) != null) {
+            throw duplicated(job);
+        }
+        return change(job, null, sequence++);
+    }
+
+    /**
+     * Remove o job do planejamento
+     *
+     * @param job job removido
+     * @return listas de execução alteradas
+     */
+    public synchronized PlanDiff remove(Job job) {
+        var previous = entries.remove(id(job));
+        if (previous == null) {
+            return PlanDiff.EMPTY;
+        }
+        return change(null, previous, previous.sequence);
+    }
+
+    /**
+     * Reposiciona o job após a alteração da data máxima de conclusão ou do tempo estimado,
+     * mantendo a ordem de inclusão entre jobs com a mesma data. O job passa a fazer parte do
+     * planejamento quando a nova data está dentro da janela e deixa de fazer quando está fora.
+     *
+     * @param job job alterado
+     * @return listas de execução alteradas
+     */
+    public synchronized PlanDiff update(Job job) {
+        var previous = entries.remove(id(job));
+        return change(job, previous, previous != null ? previous.sequence : sequence++);
+    }
+
+    private PlanDiff change(Job job, Entry previous, long entrySequence) {
+        var next = job != null && inWindow(job) ? entry(job, entrySequence) : null;
+        if (next == null && previous == null) {
+            return PlanDiff.EMPTY;
+        }
+
+        var previousBatch = previous != null ? batches.floorEntry(previous).getValue() : null;
+        var nextBatch = next != null ? target(next) : null;
+
+        if (previous != null) {
+            previousBatch.entries.remove(position(previousBatch.entries, previous));
+        }
+        if (next != null) {
+            entries.put(id(job), next);
+            if (nextBatch == null) {
+                nextBatch = new Batch(new ArrayList<>(List.of(next)));
+                add(nextBatch);
+                return new PlanDiff(null, List.of(), List.of(nextBatch.view));
+            }
+            nextBatch.entries.add(-position(nextBatch.entries, next) - 1, next);
+        }
+
+        var first = previousBatch;
+        var last = previousBatch;
+        if (nextBatch != null) {
+            first = first == null || BY_DEADLINE.compare(nextBatch.key, first.key) < 0
+                ? nextBatch
+                : first;
+            last = last == null || BY_DEADLINE.compare(nextBatch.key, last.key) > 0
+                ? nextBatch
+                : last;
+        }
+        return repack(first, last);
+    }
+
+    /**
+     * Reagrupa a partir da lista anterior a {@code first} até reencontrar uma quebra existente
+     * após {@code last}
+     */
+    private PlanDiff repack(Batch first, Batch last) {
+        var lower = batches.lowerEntry(first.key);
+        var old = lower != null ? lower.getValue() : first;
+        var anchor = batches.lowerEntry(old.key);
+        var previous = anchor != null ? anchor.getValue().view : null;
+
+        var removed = new ArrayList<List<Job>>();
+        var created = new ArrayList<Batch>();
+        List<Entry> open = null;
+        var openNanos = 0L;
+        var passedLast = false;
+
+        while (old != null) {
+            if (passedLast && !old.entries.isEmpty()
+                && (open == null || openNanos + old.entries.get(0).nanos > maxNanos)) {
+                break;
+            }
+
+            var following = batches.higherEntry(old.key);
+            batches.remove(old.key);
+            removed.add(old.view);
+            for (var entry : old.entries) {
+                if (open == null || openNanos + entry.nanos > maxNanos) {
+                    if (open != null) {
+                        created.add(new Batch(open));
+                    }
+                    open = new ArrayList<>();
+                    openNanos = 0L;
+                }
+                open.add(entry);
+                openNanos += entry.nanos;
+            }
+            passedLast |= old == last;
+            old = following != null ? following.getValue() : null;
+        }
+        if (open != null) {
+            created.add(new Batch(open));
+        }
+
+        var added = new ArrayList<List<Job>>(created.size());
+        for (var batch : created) {
+            add(batch);
+            added.add(batch.view);
+        }
+        return PlanDiff.of(previous, removed, added);
+    }
+
+    private Batch target(Entry entry) {
+        var floor = batches.floorEntry(entry);
+        if (floor != null) {
+            return floor.getValue();
+        }
+        return batches.isEmpty() ? null : batches.firstEntry().getValue();
+    }
+
+    private void add(Batch batch) {
+        batches.put(batch.key, batch);
+    }
+
+    private boolean inWindow(Job job) {
+        var deadline = job.getDateMaxCompleteProcess();
+        return !deadline.isBefore(start) && !deadline.isAfter(end);
+    }
+
+    private static int id(Job job) {
+        var id = job.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Job sem identificação");
+        }
+        return id;
+    }
+
+    private static IllegalArgumentException duplicated(Job job) {
+        return new IllegalArgumentException(
+            String.format("Job já incluído no planejamento: %s", job.getId()));
+    }
+
+    private static int position(List<Entry> entries, Entry entry) {
+        return Collections.binarySearch(entries, entry, BY_DEADLINE);
+    }
+
+    private static Entry entry(Job job, long sequence) {
+        return new Entry(job, job.getDateMaxCompleteProcess(), sequence,
+            job.getEstimatedTimeNanos());
+    }
+
+    /**
+     * Posição de um job no planejamento, com a data e a duração do momento da inclusão
+     */
+    private static final class Entry {
+
+        private final Job job;
+        private final LocalDateTime deadline;
+        private final long sequence;
+        private final long nanos;
+
+        private Entry(Job job, LocalDateTime deadline, long sequence, long nanos) {
+            this.job = job;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final class Batch {
+
+        private final Entry key;
+        private final List<Entry> entries;
+        private final List<Job> view;
+
+        private Batch(List<Entry> entries) {
+            this.key = entries.get(0);
+            this.entries = entries;
+            var jobs = new Job[entries.size()];
+            for (var index = 0; index < jobs.length; index++) {
+                jobs[index] = entries.get(index).job;
+            }
+            this.view = List.of(jobs);
+        }
+    }
+}
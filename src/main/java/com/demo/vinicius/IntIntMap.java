@@ -0,0 +1,128 @@
+package com.demo.vinicius;
+
+/**
+ * Mapa de chaves e valores {@code int} com endereçamento aberto e sondagem linear, sem boxing.
+ * Cada posição guarda o valor somado de um, de modo que {@code 0} marca a posição vazia.
+ * Remoções reposicionam as chaves seguintes da sequência de sondagem, como no {@link IntMap}.
+ */
+final class IntIntMap {
+
+    static final int ABSENT = -1;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    IntIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(
+                String.format("Tamanho esperado inválido: %d", expectedSize));
+        }
+        allocate(capacity(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Associa o valor, não negativo, à chave
+     *
+     * @return valor anterior da chave ou {@link #ABSENT}
+     */
+    int put(int key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Valor inválido: %d", value));
+        }
+        var slot = slot(key);
+        for (; values[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                var previous = values[slot] - 1;
+                values[slot] = value + 1;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value + 1;
+        if (++size > threshold) {
+            rehash();
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Remove a chave
+     *
+     * @return valor removido ou {@link #ABSENT}
+     */
+    int remove(int key) {
+        var slot = slot(key);
+        for (; values[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                var previous = values[slot] - 1;
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+        return ABSENT;
+    }
+
+    private void shiftBack(int hole) {
+        var slot = (hole + 1) & mask;
+        while (values[slot] != 0) {
+            var origin = slot(keys[slot]);
+            if (((slot - origin) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[hole] = 0;
+    }
+
+    private void rehash() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Capacidade máxima do índice atingida");
+        }
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(keys.length << 1);
+        for (var index = 0; index < oldKeys.length; index++) {
+            if (oldValues[index] != 0) {
+                var slot = slot(oldKeys[index]);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[index];
+                values[slot] = oldValues[index];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity / 4 * 3;
+    }
+
+    private int slot(int key) {
+        var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int capacity(int expectedSize) {
+        var required = (long) expectedSize * 4 / 3 + 1;
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.vinicius;
+
+import java.util.function.Consumer;
+
+/**
+ * Mapa de chaves {@code int} com endereçamento aberto e sondagem linear, sem boxing das chaves.
+ * Remoções reposicionam as chaves seguintes da sequência de sondagem, sem marcadores de remoção.
+ *
+ * @param <V> tipo dos valores, {@code null} não é permitido
+ */
+final class IntMap<V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    IntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(
+                String.format("Tamanho esperado inválido: %d", expectedSize));
+        }
+        allocate(capacity(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        for (var slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associa o valor à chave
+     *
+     * @return valor anterior da chave ou {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        var slot = slot(key);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                var previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash();
+        }
+        return null;
+    }
+
+    /**
+     * Remove a chave
+     *
+     * @return valor removido ou {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        var slot = slot(key);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                var previous = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> action) {
+        for (var value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Preenche a posição liberada com as chaves seguintes que podem ocupá-la sem ficar antes da
+     * sua posição de origem
+     */
+    private void shiftBack(int hole) {
+        var slot = (hole + 1) & mask;
+        while (values[slot] != null) {
+            var origin = slot(keys[slot]);
+            if (((slot - origin) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[hole] = null;
+    }
+
+    private void rehash() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Capacidade máxima do índice atingida");
+        }
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(keys.length << 1);
+        for (var index = 0; index < oldKeys.length; index++) {
+            if (oldValues[index] != null) {
+                var slot = slot(oldKeys[index]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[index];
+                values[slot] = oldValues[index];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity / 4 * 3;
+    }
+
+    private int slot(int key) {
+        var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int capacity(int expectedSize) {
+        var required = (long) expectedSize * 4 / 3 + 1;
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
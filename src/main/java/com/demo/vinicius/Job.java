@@ -1,7 +1,8 @@
 package com.demo.vinicius;
 
 import java.time.LocalDateTime;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,14 +10,17 @@ import lombok.Setter;
 @Getter
 public class Job {
 
-    private static final Predicate<String> simpleHours =
-        (time) -> time.matches("^(\\d|[0-9]{2})");
-    private static final Predicate<String> hoursAndMinutes =
-        (time) -> time.matches("^([0-1]?[0-9]|2[0-3]):[0-5][0-9]$");
-    private static final Predicate<String> hoursAndMinutesSecond =
-        (time) -> time.matches("^([0-1]?[0-9]|2[0-3]):[0-5][0-9]:[0-5][0-9]$");
-    private static final Predicate<String> hoursAndMinutesSecondMillis =
-        (time) -> time.matches("^([0-1]?[0-9]|2[0-3]):[0-5][0-9]:[0-5][0-9]:\\d{1,2}$");
+    /**
+     * Relógio de revisões, incrementado a cada alteração da data máxima de conclusão ou do tempo
+     * estimado de qualquer job. Cada job guarda a revisão da própria última alteração, comparada
+     * pelos índices e pelo cache apenas com os jobs que eles contêm.
+     */
+    private static final AtomicLong REVISION = new AtomicLong();
+
+    /**
+     * Maior revisão em que alguma data máxima de conclusão foi alterada
+     */
+    private static final AtomicLong DEADLINE_REVISION = new AtomicLong();
 
     @Setter
     private Integer id;
@@ -24,30 +28,111 @@ public class Job {
     @Setter
     private String description;
 
-    @Setter
     private LocalDateTime dateMaxCompleteProcess;
 
     private String estimatedTimeEnd;
 
+    /**
+     * Tempo estimado de execução já convertido em nanossegundos
+     */
+    private long estimatedTimeNanos;
+
+    @Getter(AccessLevel.NONE)
+    private volatile long changedAt;
+
+    @Getter(AccessLevel.NONE)
+    private volatile long deadlineChangedAt;
+
     @Builder
     public Job(Integer id, String description, LocalDateTime dateMaxCompleteProcess,
         String estimatedTimeEnd) {
         this.id = id;
         this.description = description;
         this.dateMaxCompleteProcess = dateMaxCompleteProcess;
-        setEstimatedTimeEnd(estimatedTimeEnd);
+        assignEstimatedTimeEnd(estimatedTimeEnd);
+    }
+
+    private Job(Integer id, String description, LocalDateTime dateMaxCompleteProcess,
+        String estimatedTimeEnd, long estimatedTimeNanos) {
+        this.id = id;
+        this.description = description;
+        this.dateMaxCompleteProcess = dateMaxCompleteProcess;
+        this.estimatedTimeEnd = estimatedTimeEnd;
+        this.estimatedTimeNanos = estimatedTimeNanos;
+    }
+
+    /**
+     * Cria o job a partir de um tempo estimado já validado e normalizado, sem executar o parser
+     *
+     * @param id                     identificação do job
+     * @param description            descrição do job
+     * @param dateMaxCompleteProcess data máxima de conclusão
+     * @param estimatedTimeEnd       tempo estimado no formato {@code HH:mm:ss:SS}
+     * @param estimatedTimeNanos     tempo estimado em nanossegundos
+     * @return job
+     */
+    static Job restore(Integer id, String description, LocalDateTime dateMaxCompleteProcess,
+        String estimatedTimeEnd, long estimatedTimeNanos) {
+        return new Job(id, description, dateMaxCompleteProcess, estimatedTimeEnd,
+            estimatedTimeNanos);
+    }
+
+    /**
+     * @return revisão da última alteração de qualquer job
+     */
+    static long revision() {
+        return REVISION.get();
+    }
+
+    /**
+     * @return revisão da última alteração da data máxima de conclusão de qualquer job
+     */
+    static long deadlineRevision() {
+        return DEADLINE_REVISION.get();
+    }
+
+    /**
+     * Indica se a data máxima de conclusão ou o tempo estimado do job foram alterados após a
+     * revisão informada
+     *
+     * @param revision revisão de referência
+     * @return {@code true} quando o job foi alterado
+     */
+    boolean changedSince(long revision) {
+        return changedAt > revision;
+    }
+
+    /**
+     * Indica se a data máxima de conclusão do job foi alterada após a revisão informada
+     *
+     * @param revision revisão de referência
+     * @return {@code true} quando a data foi alterada
+     */
+    boolean deadlineChangedSince(long revision) {
+        return deadlineChangedAt > revision;
+    }
+
+    public void setDateMaxCompleteProcess(LocalDateTime dateMaxCompleteProcess) {
+        this.dateMaxCompleteProcess = dateMaxCompleteProcess;
+        var revision = REVISION.incrementAndGet();
+        changedAt = revision;
+        deadlineChangedAt = revision;
+        DEADLINE_REVISION.accumulateAndGet(revision, Math::max);
     }
 
     public void setEstimatedTimeEnd(String estimatedTimeEnd) {
-        if (simpleHours.test(estimatedTimeEnd)) {
-            this.estimatedTimeEnd = String.format("%s:00:00:00", estimatedTimeEnd);
-        } else if (hoursAndMinutes.test(estimatedTimeEnd)) {
-            this.estimatedTimeEnd = String.format("%s:00:00", estimatedTimeEnd);
-        } else if (hoursAndMinutesSecond.test(estimatedTimeEnd)) {
-            this.estimatedTimeEnd = String.format("%s:00", estimatedTimeEnd);
-        } else if (hoursAndMinutesSecondMillis.test(estimatedTimeEnd)){
-            this.estimatedTimeEnd = estimatedTimeEnd;
-        } else
+        assignEstimatedTimeEnd(estimatedTimeEnd);
+        changedAt = REVISION.incrementAndGet();
+    }
+
+    private void assignEstimatedTimeEnd(String estimatedTimeEnd) {
+        var nanos = EstimatedTimeParser.parse(estimatedTimeEnd);
+        if (nanos == EstimatedTimeParser.INVALID) {
+            SchedulingMetrics.global().recordParseFailure(estimatedTimeEnd);
             throw new RuntimeException("Data formato inválido");
+        }
+
+        this.estimatedTimeEnd = EstimatedTimeParser.normalize(estimatedTimeEnd);
+        this.estimatedTimeNanos = nanos;
     }
 }
@@ -0,0 +1,105 @@
+package com.demo.vinicius;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contêiner de acumulação do {@link CollectorJobs}. Cada instância mantém o seu próprio estado
+ * (listas de execução e duração acumulada da última lista), permitindo o uso em streams
+ * paralelos.
+ */
+final class JobBatches {
+
+    private final long maxNanos;
+    private final List<List<Job>> batches = new ArrayList<>();
+    private List<Job> current;
+    private long currentNanos;
+    private long jobCount;
+    private long totalNanos;
+
+    JobBatches(long maxNanos) {
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Adiciona o job na lista de execução atual ou abre uma nova lista quando o limite de duração
+     * é ultrapassado
+     *
+     * @param job job a ser adicionado
+     */
+    void add(Job job) {
+        jobCount++;
+        totalNanos += job.getEstimatedTimeNanos();
+        place(job);
+    }
+
+    private void place(Job job) {
+        var nanos = job.getEstimatedTimeNanos();
+        if (current == null || currentNanos + nanos > maxNanos) {
+            current = new ArrayList<>();
+            batches.add(current);
+            currentNanos = 0L;
+        }
+        current.add(job);
+        currentNanos += nanos;
+    }
+
+    /**
+     * Concatena as listas de execução de {@code right}, que sucede este contêiner na ordem de
+     * encontro. Os jobs iniciais de {@code right} são reacomodados a partir da última lista deste
+     * contêiner até que a quebra coincida com uma quebra já existente em {@code right}, garantindo
+     * o mesmo resultado da execução sequencial.
+     *
+     * @param right contêiner subsequente
+     * @return este contêiner com o resultado da junção
+     */
+    JobBatches combine(JobBatches right) {
+        if (right.batches.isEmpty()) {
+            return this;
+        }
+        if (batches.isEmpty()) {
+            return right;
+        }
+
+        jobCount += right.jobCount;
+        totalNanos += right.totalNanos;
+
+        var rightBatches = right.batches;
+        var index = 0;
+        while (index < rightBatches.size()) {
+            var batch = rightBatches.get(index);
+            if (index > 0 && opensBatch(batch.get(0))) {
+                break;
+            }
+            batch.forEach(this::place);
+            index++;
+        }
+
+        if (index < rightBatches.size()) {
+            batches.addAll(rightBatches.subList(index, rightBatches.size()));
+            current = right.current;
+            currentNanos = right.currentNanos;
+        }
+        return this;
+    }
+
+    List<List<Job>> batches() {
+        return batches;
+    }
+
+    long jobCount() {
+        return jobCount;
+    }
+
+    long totalNanos() {
+        return totalNanos;
+    }
+
+    long maxNanos() {
+        return maxNanos;
+    }
+
+    private boolean opensBatch(Job job) {
+        return currentNanos + job.getEstimatedTimeNanos() > maxNanos;
+    }
+}
@@ -0,0 +1,23 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado da execução de um job: situação, instante de início relativo ao início da lista,
+ * tempo de execução e a exception lançada, quando houver
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class JobExecution {
+
+    private final Job job;
+    private final JobExecutionStatus status;
+    private final Duration offset;
+    private final Duration elapsed;
+    private final Throwable error;
+}
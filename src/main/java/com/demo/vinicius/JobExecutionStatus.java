@@ -0,0 +1,27 @@
+package com.demo.vinicius;
+
+/**
+ * Situação de um job após a execução da lista pelo {@link BatchRunner}
+ */
+public enum JobExecutionStatus {
+
+    /**
+     * Job concluído dentro do tempo disponível da lista
+     */
+    COMPLETED,
+
+    /**
+     * Job encerrado com exception
+     */
+    FAILED,
+
+    /**
+     * Job interrompido ao esgotar o tempo disponível da lista
+     */
+    TIMED_OUT,
+
+    /**
+     * Job não executado porque o tempo disponível da lista já havia se esgotado
+     */
+    SKIPPED
+}
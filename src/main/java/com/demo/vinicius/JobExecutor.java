@@ -0,0 +1,17 @@
+package com.demo.vinicius;
+
+/**
+ * Execução de um job pelo {@link BatchRunner}. A implementação deve responder à interrupção da
+ * thread, que sinaliza o término do tempo disponível para a lista de execução.
+ */
+@FunctionalInterface
+public interface JobExecutor {
+
+    /**
+     * Executa o job
+     *
+     * @param job job a ser executado
+     * @throws Exception falha na execução do job
+     */
+    void execute(Job job) throws Exception;
+}
@@ -0,0 +1,37 @@
+package com.demo.vinicius;
+
+import java.nio.file.Path;
+
+/**
+ * Formatos de arquivo aceitos pelo {@link JobFileLoader}
+ */
+public enum JobFileFormat {
+
+    /**
+     * Uma linha por job com as colunas {@code id,description,dateMaxCompleteProcess,
+     * estimatedTimeEnd}. A descrição pode estar entre aspas duplas, com {@code ""} representando
+     * aspas. Uma primeira linha iniciada por texto é considerada cabeçalho.
+     */
+    CSV,
+
+    /**
+     * Um objeto JSON por linha com as chaves {@code id}, {@code description},
+     * {@code dateMaxCompleteProcess} e {@code estimatedTimeEnd}. Outras chaves são ignoradas.
+     */
+    NDJSON;
+
+    /**
+     * Identifica o formato pela extensão do arquivo
+     *
+     * @param path arquivo
+     * @return {@link #NDJSON} para as extensões {@code .ndjson}, {@code .jsonl} e {@code .json},
+     * {@link #CSV} para as demais
+     */
+    public static JobFileFormat of(Path path) {
+        var name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
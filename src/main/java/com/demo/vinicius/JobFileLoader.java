@@ -0,0 +1,697 @@
+package com.demo.vinicius;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Leitura de jobs a partir de arquivos CSV ou NDJSON mapeados em memória. Os registros são
+ * interpretados diretamente do buffer mapeado e entregues sob demanda em um {@link Stream}, de
+ * modo que apenas os jobs consumidos ocupam o heap.
+ *
+ * <p>Quando um range de datas é informado, a data máxima de conclusão é lida antes dos demais
+ * campos e os registros fora do range são descartados sem criação de objetos.
+ *
+ * <p>O {@link Stream} retornado mantém o arquivo aberto e deve ser fechado após o uso.
+ */
+public final class JobFileLoader {
+
+    static final long DEFAULT_REGION_SIZE = 1L << 30;
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private JobFileLoader() {
+    }
+
+    public static Stream<Job> stream(Path path) {
+        return stream(path, JobFileFormat.of(path));
+    }
+
+    public static Stream<Job> stream(Path path, JobFileFormat format) {
+        return stream(path, format, null, null, DEFAULT_REGION_SIZE);
+    }
+
+    public static Stream<Job> stream(Path path, LocalDateTime start, LocalDateTime end) {
+        return stream(path, JobFileFormat.of(path), start, end);
+    }
+
+    /**
+     * Retorna um Stream com os jobs do arquivo cuja data máxima de conclusão está entre duas
+     * datas, utilizando a abordagem inclusiva
+     *
+     * @param path   arquivo de jobs
+     * @param format formato do arquivo
+     * @param start  data de início do range
+     * @param end    data fim do range
+     * @return Stream de jobs na ordem do arquivo
+     */
+    public static Stream<Job> stream(Path path, JobFileFormat format, LocalDateTime start,
+        LocalDateTime end) {
+        return stream(path, format, start, end, DEFAULT_REGION_SIZE);
+    }
+
+    static Stream<Job> stream(Path path, JobFileFormat format, LocalDateTime start,
+        LocalDateTime end, long regionSize) {
+        try {
+            var channel = FileChannel.open(path, StandardOpenOption.READ);
+            var spliterator = new MappedJobSpliterator(channel, regionSize,
+                new RecordReader(format, start, end));
+            return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class MappedJobSpliterator extends Spliterators.AbstractSpliterator<Job> {
+
+        private final FileChannel channel;
+        private final long regionSize;
+        private final RecordReader reader;
+        private final long size;
+        private MappedByteBuffer buffer;
+        private long regionStart;
+        private long next;
+        private int position;
+        private long lineNumber;
+
+        private MappedJobSpliterator(FileChannel channel, long regionSize, RecordReader reader)
+            throws IOException {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.channel = channel;
+            this.regionSize = regionSize;
+            this.reader = reader;
+            this.size = channel.size();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Job> action) {
+            while (true) {
+                if (buffer == null || position >= buffer.limit()) {
+                    if (buffer != null) {
+                        next = regionStart + Math.min(position, buffer.limit());
+                    }
+                    if (!map()) {
+                        close();
+                        return false;
+                    }
+                }
+
+                var limit = buffer.limit();
+                var lineEnd = indexOf(buffer, (byte) '\n', position, limit);
+                if (lineEnd < 0) {
+                    if (regionStart + limit < size) {
+                        if (position == 0) {
+                            throw new IllegalArgumentException(String.format(
+                                "Linha %d excede o tamanho da região mapeada", lineNumber + 1));
+                        }
+                        next = regionStart + position;
+                        map();
+                        continue;
+                    }
+                    lineEnd = limit;
+                }
+
+                var from = position;
+                var to = lineEnd;
+                position = lineEnd + 1;
+                lineNumber++;
+                if (to > from && buffer.get(to - 1) == '\r') {
+                    to--;
+                }
+
+                var job = reader.read(buffer, from, to, lineNumber);
+                if (job != null) {
+                    action.accept(job);
+                    return true;
+                }
+            }
+        }
+
+        private boolean map() {
+            if (next >= size) {
+                buffer = null;
+                return false;
+            }
+            try {
+                var length = Math.min(regionSize, size - next);
+                buffer = channel.map(MapMode.READ_ONLY, next, length);
+                regionStart = next;
+                position = 0;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close() {
+            buffer = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Interpreta uma linha do buffer reaproveitando os mesmos arrays auxiliares para todas as
+     * linhas
+     */
+    private static final class RecordReader {
+
+        private static final int ID = 0;
+        private static final int DESCRIPTION = 1;
+        private static final int DEADLINE = 2;
+        private static final int ESTIMATED_TIME = 3;
+        private static final int FIELDS = 4;
+
+        private static final byte[][] KEYS = {
+            "id".getBytes(StandardCharsets.US_ASCII),
+            "description".getBytes(StandardCharsets.US_ASCII),
+            "dateMaxCompleteProcess".getBytes(StandardCharsets.US_ASCII),
+            "estimatedTimeEnd".getBytes(StandardCharsets.US_ASCII)
+        };
+
+        private static final int ESTIMATE_CACHE_SIZE = 256;
+
+        private final JobFileFormat format;
+        private final long startSecond;
+        private final int startNano;
+        private final long endSecond;
+        private final int endNano;
+
+        private final int[] fieldFrom = new int[FIELDS];
+        private final int[] fieldTo = new int[FIELDS];
+        private final boolean[] fieldEscaped = new boolean[FIELDS];
+        private final boolean[] fieldNull = new boolean[FIELDS];
+        private final EstimateEntry[] estimates = new EstimateEntry[ESTIMATE_CACHE_SIZE];
+        private byte[] scratch = new byte[256];
+
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int second;
+        private int nano;
+
+        private RecordReader(JobFileFormat format, LocalDateTime start, LocalDateTime end) {
+            this.format = format;
+            this.startSecond = start == null ? Long.MIN_VALUE : start.toEpochSecond(ZoneOffset.UTC);
+            this.startNano = start == null ? 0 : start.getNano();
+            this.endSecond = end == null ? Long.MAX_VALUE : end.toEpochSecond(ZoneOffset.UTC);
+            this.endNano = end == null ? 0 : end.getNano();
+        }
+
+        private Job read(ByteBuffer buffer, int from, int to, long line) {
+            from = skipWhitespace(buffer, from, to);
+            if (from >= to) {
+                return null;
+            }
+
+            if (format == JobFileFormat.CSV) {
+                if (line == 1 && !isDigit(buffer.get(from)) && buffer.get(from) != '-') {
+                    return null;
+                }
+                splitCsv(buffer, from, to, line);
+            } else {
+                splitJson(buffer, from, to, line);
+            }
+
+            parseDeadline(buffer, line);
+            if (!isInsideRange()) {
+                return null;
+            }
+
+            var estimate = estimate(buffer, line);
+            return Job.restore(
+                parseId(buffer, line),
+                description(buffer),
+                LocalDateTime.of(year, month, day, hour, minute, second, nano),
+                estimate.normalized,
+                estimate.nanos);
+        }
+
+        private void splitCsv(ByteBuffer buffer, int from, int to, long line) {
+            var position = from;
+            for (var field = 0; field < FIELDS; field++) {
+                fieldNull[field] = false;
+                fieldEscaped[field] = false;
+                if (position < to && buffer.get(position) == '"') {
+                    var index = position + 1;
+                    while (true) {
+                        if (index >= to) {
+                            throw invalid(line, "aspas não finalizadas");
+                        }
+                        if (buffer.get(index) == '"') {
+                            if (index + 1 < to && buffer.get(index + 1) == '"') {
+                                fieldEscaped[field] = true;
+                                index += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        index++;
+                    }
+                    fieldFrom[field] = position + 1;
+                    fieldTo[field] = index;
+                    position = index + 1;
+                } else {
+                    var index = indexOf(buffer, (byte) ',', position, to);
+                    fieldFrom[field] = position;
+                    fieldTo[field] = index < 0 ? to : index;
+                    position = fieldTo[field];
+                }
+
+                if (field < FIELDS - 1) {
+                    if (position >= to || buffer.get(position) != ',') {
+                        throw invalid(line, "quantidade de colunas");
+                    }
+                    position++;
+                } else if (position != to) {
+                    throw invalid(line, "quantidade de colunas");
+                }
+            }
+        }
+
+        private void splitJson(ByteBuffer buffer, int from, int to, long line) {
+            var found = 0;
+            var position = from;
+            if (buffer.get(position) != '{') {
+                throw invalid(line, "objeto JSON esperado");
+            }
+            position = skipWhitespace(buffer, position + 1, to);
+            if (position < to && buffer.get(position) == '}') {
+                throw invalid(line, "campos obrigatórios ausentes");
+            }
+
+            while (true) {
+                if (position >= to || buffer.get(position) != '"') {
+                    throw invalid(line, "chave JSON esperada");
+                }
+                var keyFrom = position + 1;
+                var keyTo = endOfString(buffer, keyFrom, to, line);
+                var field = field(buffer, keyFrom, keyTo);
+
+                position = skipWhitespace(buffer, keyTo + 1, to);
+                if (position >= to || buffer.get(position) != ':') {
+                    throw invalid(line, "':' esperado");
+                }
+                position = skipWhitespace(buffer, position + 1, to);
+                if (position >= to) {
+                    throw invalid(line, "valor esperado");
+                }
+
+                int valueFrom;
+                int valueTo;
+                var escaped = false;
+                var isNull = false;
+                var first = buffer.get(position);
+                if (first == '"') {
+                    valueFrom = position + 1;
+                    valueTo = endOfString(buffer, valueFrom, to, line);
+                    escaped = indexOf(buffer, (byte) '\\', valueFrom, valueTo) >= 0;
+                    position = valueTo + 1;
+                } else if (first == '{' || first == '[') {
+                    valueFrom = position;
+                    valueTo = endOfNested(buffer, position, to, line);
+                    position = valueTo;
+                } else {
+                    valueFrom = position;
+                    valueTo = position;
+                    while (valueTo < to && !isJsonDelimiter(buffer.get(valueTo))) {
+                        valueTo++;
+                    }
+                    isNull = matches(buffer, valueFrom, valueTo, NULL);
+                    position = valueTo;
+                }
+
+                if (field >= 0) {
+                    fieldFrom[field] = valueFrom;
+                    fieldTo[field] = valueTo;
+                    fieldEscaped[field] = escaped;
+                    fieldNull[field] = isNull;
+                    found |= 1 << field;
+                }
+
+                position = skipWhitespace(buffer, position, to);
+                if (position < to && buffer.get(position) == ',') {
+                    position = skipWhitespace(buffer, position + 1, to);
+                    continue;
+                }
+                if (position < to && buffer.get(position) == '}') {
+                    break;
+                }
+                throw invalid(line, "',' ou '}' esperado");
+            }
+
+            if (found != (1 << FIELDS) - 1) {
+                throw invalid(line, "campos obrigatórios ausentes");
+            }
+        }
+
+        private void parseDeadline(ByteBuffer buffer, long line) {
+            var from = fieldFrom[DEADLINE];
+            var to = fieldTo[DEADLINE];
+            if (fieldNull[DEADLINE] || fieldEscaped[DEADLINE] || to - from < 16
+                || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-'
+                || (buffer.get(from + 10) != 'T' && buffer.get(from + 10) != ' ')
+                || buffer.get(from + 13) != ':') {
+                throw invalid(line, "data máxima de conclusão");
+            }
+
+            year = digits(buffer, from, from + 4, line);
+            month = digits(buffer, from + 5, from + 7, line);
+            day = digits(buffer, from + 8, from + 10, line);
+            hour = digits(buffer, from + 11, from + 13, line);
+            minute = digits(buffer, from + 14, from + 16, line);
+            second = 0;
+            nano = 0;
+
+            var position = from + 16;
+            if (position < to) {
+                if (buffer.get(position) != ':' || to - position < 3) {
+                    throw invalid(line, "data máxima de conclusão");
+                }
+                second = digits(buffer, position + 1, position + 3, line);
+                position += 3;
+            }
+            if (position < to) {
+                var fraction = to - position - 1;
+                if (buffer.get(position) != '.' || fraction < 1 || fraction > 9) {
+                    throw invalid(line, "data máxima de conclusão");
+                }
+                nano = digits(buffer, position + 1, to, line);
+                for (var index = fraction; index < 9; index++) {
+                    nano *= 10;
+                }
+            }
+
+            if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+                throw invalid(line, "data máxima de conclusão");
+            }
+        }
+
+        private boolean isInsideRange() {
+            var epochSecond = epochDay(year, month, day) * 86_400L
+                + hour * 3_600L + minute * 60L + second;
+            if (epochSecond < startSecond || (epochSecond == startSecond && nano < startNano)) {
+                return false;
+            }
+            return epochSecond < endSecond || (epochSecond == endSecond && nano <= endNano);
+        }
+
+        private Integer parseId(ByteBuffer buffer, long line) {
+            var from = fieldFrom[ID];
+            var to = fieldTo[ID];
+            if (fieldNull[ID]) {
+                throw invalid(line, "id");
+            }
+            var negative = from < to && buffer.get(from) == '-';
+            if (negative) {
+                from++;
+            }
+            if (from >= to || to - from > 10) {
+                throw invalid(line, "id");
+            }
+            var value = 0L;
+            for (var index = from; index < to; index++) {
+                var character = buffer.get(index);
+                if (!isDigit(character)) {
+                    throw invalid(line, "id");
+                }
+                value = value * 10 + (character - '0');
+            }
+            value = negative ? -value : value;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw invalid(line, "id");
+            }
+            return (int) value;
+        }
+
+        private String description(ByteBuffer buffer) {
+            if (fieldNull[DESCRIPTION]) {
+                return null;
+            }
+            var from = fieldFrom[DESCRIPTION];
+            var to = fieldTo[DESCRIPTION];
+            if (!fieldEscaped[DESCRIPTION]) {
+                return utf8(buffer, from, to);
+            }
+            if (format == JobFileFormat.CSV) {
+                var length = 0;
+                ensureScratch(to - from);
+                for (var index = from; index < to; index++) {
+                    var character = buffer.get(index);
+                    scratch[length++] = character;
+                    if (character == '"') {
+                        index++;
+                    }
+                }
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            return unescapeJson(buffer, from, to);
+        }
+
+        private String unescapeJson(ByteBuffer buffer, int from, int to) {
+            var builder = new StringBuilder(to - from);
+            var runStart = from;
+            var index = from;
+            while (index < to) {
+                if (buffer.get(index) != '\\') {
+                    index++;
+                    continue;
+                }
+                builder.append(utf8(buffer, runStart, index));
+                var escape = buffer.get(index + 1);
+                switch (escape) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        builder.append((char) Integer.parseInt(ascii(buffer, index + 2, index + 6),
+                            16));
+                        index += 4;
+                        break;
+                    default:
+                        builder.append((char) escape);
+                }
+                index += 2;
+                runStart = index;
+            }
+            builder.append(utf8(buffer, runStart, to));
+            return builder.toString();
+        }
+
+        private EstimateEntry estimate(ByteBuffer buffer, long line) {
+            var from = fieldFrom[ESTIMATED_TIME];
+            var to = fieldTo[ESTIMATED_TIME];
+            if (fieldNull[ESTIMATED_TIME] || fieldEscaped[ESTIMATED_TIME]) {
+                throw invalid(line, "Data formato inválido");
+            }
+
+            var hash = 1;
+            for (var index = from; index < to; index++) {
+                hash = 31 * hash + buffer.get(index);
+            }
+            var slot = (hash ^ (hash >>> 16)) & (ESTIMATE_CACHE_SIZE - 1);
+            var entry = estimates[slot];
+            if (entry != null && entry.matches(buffer, from, to)) {
+                return entry;
+            }
+
+            var raw = ascii(buffer, from, to);
+            var nanos = EstimatedTimeParser.parse(raw);
+            if (nanos == EstimatedTimeParser.INVALID) {
+                SchedulingMetrics.global().recordParseFailure(raw);
+                throw invalid(line, "Data formato inválido");
+            }
+            entry = new EstimateEntry(raw, EstimatedTimeParser.normalize(raw), nanos);
+            estimates[slot] = entry;
+            return entry;
+        }
+
+        private String utf8(ByteBuffer buffer, int from, int to) {
+            return new String(copy(buffer, from, to), 0, to - from, StandardCharsets.UTF_8);
+        }
+
+        private String ascii(ByteBuffer buffer, int from, int to) {
+            return new String(copy(buffer, from, to), 0, to - from, StandardCharsets.US_ASCII);
+        }
+
+        private byte[] copy(ByteBuffer buffer, int from, int to) {
+            ensureScratch(to - from);
+            for (var index = from; index < to; index++) {
+                scratch[index - from] = buffer.get(index);
+            }
+            return scratch;
+        }
+
+        private void ensureScratch(int length) {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+        }
+
+        private int field(ByteBuffer buffer, int from, int to) {
+            for (var field = 0; field < FIELDS; field++) {
+                if (matches(buffer, from, to, KEYS[field])) {
+                    return field;
+                }
+            }
+            return -1;
+        }
+
+        private static int endOfString(ByteBuffer buffer, int from, int to, long line) {
+            for (var index = from; index < to; index++) {
+                var character = buffer.get(index);
+                if (character == '\\') {
+                    index++;
+                } else if (character == '"') {
+                    return index;
+                }
+            }
+            throw invalid(line, "texto JSON não finalizado");
+        }
+
+        private static int endOfNested(ByteBuffer buffer, int from, int to, long line) {
+            var depth = 0;
+            for (var index = from; index < to; index++) {
+                var character = buffer.get(index);
+                if (character == '"') {
+                    index = endOfString(buffer, index + 1, to, line);
+                } else if (character == '{' || character == '[') {
+                    depth++;
+                } else if ((character == '}' || character == ']') && --depth == 0) {
+                    return index + 1;
+                }
+            }
+            throw invalid(line, "valor JSON não finalizado");
+        }
+
+        private static int digits(ByteBuffer buffer, int from, int to, long line) {
+            var value = 0;
+            for (var index = from; index < to; index++) {
+                var character = buffer.get(index);
+                if (!isDigit(character)) {
+                    throw invalid(line, "data máxima de conclusão");
+                }
+                value = value * 10 + (character - '0');
+            }
+            return value;
+        }
+
+        private static boolean isJsonDelimiter(byte character) {
+            return character == ',' || character == '}' || isWhitespace(character);
+        }
+
+        private static int lengthOfMonth(int year, int month) {
+            switch (month) {
+                case 2:
+                    var leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                    return leap ? 29 : 28;
+                case 4:
+                case 6:
+                case 9:
+                case 11:
+                    return 30;
+                default:
+                    return 31;
+            }
+        }
+
+        private static long epochDay(int year, int month, int day) {
+            var adjustedYear = (long) year - (month <= 2 ? 1 : 0);
+            var era = Math.floorDiv(adjustedYear, 400L);
+            var yearOfEra = adjustedYear - era * 400L;
+            var dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+            var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146_097L + dayOfEra - 719_468L;
+        }
+
+        private static IllegalArgumentException invalid(long line, String reason) {
+            return new IllegalArgumentException(
+                String.format("Linha %d inválida: %s", line, reason));
+        }
+    }
+
+    private static final class EstimateEntry {
+
+        private final byte[] raw;
+        private final String normalized;
+        private final long nanos;
+
+        private EstimateEntry(String raw, String normalized, long nanos) {
+            this.raw = raw.getBytes(StandardCharsets.US_ASCII);
+            this.normalized = normalized;
+            this.nanos = nanos;
+        }
+
+        private boolean matches(ByteBuffer buffer, int from, int to) {
+            return JobFileLoader.matches(buffer, from, to, raw);
+        }
+    }
+
+    private static boolean matches(ByteBuffer buffer, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (var index = 0; index < expected.length; index++) {
+            if (buffer.get(from + index) != expected[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+        for (var index = from; index < to; index++) {
+            if (buffer.get(index) == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(ByteBuffer buffer, int from, int to) {
+        var index = from;
+        while (index < to && isWhitespace(buffer.get(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(byte character) {
+        return character == ' ' || character == '\t' || character == '\r' || character == '\n';
+    }
+
+    private static boolean isDigit(byte character) {
+        return character >= '0' && character <= '9';
+    }
+}
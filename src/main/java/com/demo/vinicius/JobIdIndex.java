@@ -0,0 +1,147 @@
+package com.demo.vinicius;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Índice de jobs pela identificação ({@link Job#getId()}) com endereçamento aberto sobre chaves
+ * {@code int}, sem boxing das identificações. Consulta, atualização e remoção pela identificação
+ * são O(1) em média.
+ *
+ * <p>Também realiza a deduplicação dos jobs na carga do {@link FilterJobs}: entre jobs com a mesma
+ * identificação prevalece o último informado, na posição do primeiro.
+ */
+public final class JobIdIndex {
+
+    private final IntMap<Job> jobs;
+
+    public JobIdIndex() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize quantidade esperada de jobs, evita o redimensionamento do índice
+     */
+    public JobIdIndex(int expectedSize) {
+        this.jobs = new IntMap<>(expectedSize);
+    }
+
+    /**
+     * Cria o índice com os jobs informados. Entre jobs com a mesma identificação prevalece o
+     * último.
+     *
+     * @param jobs jobs indexados
+     * @return índice de jobs
+     */
+    public static JobIdIndex of(List<Job> jobs) {
+        var index = new JobIdIndex(jobs.size());
+        jobs.forEach(index::put);
+        return index;
+    }
+
+    /**
+     * Retorna o job da identificação informada
+     *
+     * @param id identificação do job
+     * @return job ou {@code null} quando não indexado
+     */
+    public Job get(int id) {
+        return jobs.get(id);
+    }
+
+    public boolean contains(int id) {
+        return jobs.get(id) != null;
+    }
+
+    /**
+     * Inclui o job ou substitui o job indexado com a mesma identificação
+     *
+     * @param job job indexado
+     * @return job substituído ou {@code null}
+     */
+    public Job put(Job job) {
+        return jobs.put(id(job), job);
+    }
+
+    /**
+     * Remove o job da identificação informada
+     *
+     * @param id identificação do job
+     * @return job removido ou {@code null}
+     */
+    public Job remove(int id) {
+        return jobs.remove(id);
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    public void forEach(Consumer<? super Job> action) {
+        jobs.forEachValue(action);
+    }
+
+    /**
+     * Remove os jobs com identificação repetida. Prevalece o último job de cada identificação, na
+     * posição do primeiro. Jobs sem identificação são mantidos.
+     *
+     * @param jobs jobs com possíveis repetições
+     * @return jobs sem identificações repetidas
+     */
+    public static List<Job> deduplicate(List<Job> jobs) {
+        var unique = deduplicate(jobs.toArray(new Job[0]));
+        return unique.length == jobs.size() ? jobs : new ArrayList<>(Arrays.asList(unique));
+    }
+
+    /**
+     * Remove os jobs com identificação repetida do array
+     *
+     * @return o próprio array quando não há repetições ou um novo array sem repetições
+     */
+    static Job[] deduplicate(Job[] jobs) {
+        var index = new JobIdIndex(jobs.length);
+        var duplicated = false;
+        for (var job : jobs) {
+            if (job.getId() != null) {
+                duplicated |= index.put(job) != null;
+            }
+        }
+        if (!duplicated) {
+            return jobs;
+        }
+
+        var unique = new Job[index.size() + nullIds(jobs)];
+        var position = 0;
+        for (var job : jobs) {
+            if (job.getId() == null) {
+                unique[position++] = job;
+                continue;
+            }
+            var latest = index.remove(job.getId());
+            if (latest != null) {
+                unique[position++] = latest;
+            }
+        }
+        return unique;
+    }
+
+    private static int nullIds(Job[] jobs) {
+        var count = 0;
+        for (var job : jobs) {
+            if (job.getId() == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int id(Job job) {
+        var id = job.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Job sem identificação");
+        }
+        return id;
+    }
+}
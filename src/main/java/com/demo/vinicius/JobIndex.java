@@ -0,0 +1,47 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice de jobs consultado pelo {@link FilterJobs}, ordenado pela data máxima de conclusão e
+ * estável entre jobs com a mesma data
+ */
+interface JobIndex {
+
+    /**
+     * Retorna os jobs com data máxima de conclusão dentro do range inclusivo, já ordenados
+     *
+     * @param start data de início do range
+     * @param end   data fim do range
+     * @return Stream ordenado de jobs
+     */
+    Stream<Job> range(LocalDateTime start, LocalDateTime end);
+
+    int size();
+
+    /**
+     * Indica se algum job do índice teve a data máxima de conclusão alterada após a construção e o
+     * índice precisa ser reordenado
+     *
+     * @return {@code true} quando o índice está desatualizado
+     */
+    boolean isStale();
+
+    /**
+     * Reordena os mesmos jobs após alterações nas datas máximas de conclusão
+     *
+     * @return novo índice
+     */
+    JobIndex refresh();
+
+    /**
+     * Retorna um novo índice com os jobs adicionados posicionados após os jobs existentes com a
+     * mesma data
+     *
+     * @param jobs jobs adicionados
+     * @return novo índice
+     */
+    JobIndex merge(List<Job> jobs);
+}
@@ -0,0 +1,17 @@
+package com.demo.vinicius;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.demo.vinicius.JobParseFailure")
+@Label("Job Parse Failure")
+@Category("Scheduling")
+@Description("Tempo estimado de execução em formato inválido")
+class JobParseFailureEvent extends Event {
+
+    @Label("Value")
+    String value;
+}
@@ -0,0 +1,314 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Registro mutável e thread-safe de jobs, indexado pela identificação, com consultas sobre
+ * snapshots consistentes.
+ *
+ * <p>Cada escrita recebe uma versão global e guarda uma cópia imutável dos dados do job, de modo
+ * que alterações posteriores no objeto {@link Job} informado não afetam o registro. As escritas
+ * são concorrentes entre si e cada job mantém as versões ainda visíveis para algum snapshot em
+ * construção (MVCC). O {@link #snapshot()} apenas registra a versão atual, aguardando as escritas
+ * em andamento, e monta a lista de jobs sem bloquear as escritas seguintes.
+ *
+ * <p>As versões anteriores e as remoções mantidas para snapshots em construção são descartadas
+ * na próxima escrita do job ou, para jobs que não recebem novas escritas, quando o snapshot mais
+ * antigo termina.
+ */
+public class JobRegistry {
+
+    private static final Comparator<Version> BY_REGISTRATION =
+        Comparator.comparingLong(version -> version.sequence);
+
+    private final ConcurrentHashMap<Integer, Version> versions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Integer> activeSnapshots =
+        new ConcurrentSkipListMap<>();
+    private final Set<Integer> retained = ConcurrentHashMap.newKeySet();
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong sequences = new AtomicLong();
+    private final LongAdder size = new LongAdder();
+    private volatile Visible lastVisible;
+
+    /**
+     * Inclui o job no registro
+     *
+     * @param job job incluído
+     * @throws IllegalArgumentException quando já existe um job com a mesma identificação
+     */
+    public void add(Job job) {
+        write(id(job), job, Mode.ADD);
+    }
+
+    /**
+     * Substitui os dados do job com a mesma identificação
+     *
+     * @param job job com os dados atualizados
+     * @throws IllegalArgumentException quando não existe job com a identificação
+     */
+    public void update(Job job) {
+        write(id(job), job, Mode.UPDATE);
+    }
+
+    /**
+     * Remove o job do registro
+     *
+     * @param id identificação do job
+     * @return {@code true} quando o job existia
+     */
+    public boolean remove(int id) {
+        return write(id, null, Mode.REMOVE);
+    }
+
+    /**
+     * Retorna uma cópia da versão atual do job
+     *
+     * @param id identificação do job
+     * @return job, quando registrado
+     */
+    public Optional<Job> get(int id) {
+        var version = versions.get(id);
+        return version == null || version.removed ? Optional.empty() : Optional.of(version.job());
+    }
+
+    public int size() {
+        return size.intValue();
+    }
+
+    public long version() {
+        return clock.get();
+    }
+
+    /**
+     * Retorna a quantidade de versões mantidas, incluindo versões anteriores e remoções ainda
+     * visíveis para snapshots em construção
+     *
+     * @return total de versões
+     */
+    long retainedVersions() {
+        var count = 0L;
+        for (var head : versions.values()) {
+            for (var current = head; current != null; current = current.previous) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retorna os jobs registrados na versão atual. As escritas concluídas antes da chamada são
+     * visíveis e as seguintes não, mesmo que ocorram durante a montagem do snapshot. Os jobs são
+     * cópias na ordem de inclusão no registro, criadas a cada chamada. As versões visíveis são
+     * reaproveitadas enquanto não houver escritas.
+     *
+     * @return snapshot consistente do registro
+     */
+    public RegistrySnapshot snapshot() {
+        long version;
+        gate.writeLock().lock();
+        try {
+            version = clock.get();
+            var last = lastVisible;
+            if (last != null && last.version == version) {
+                return last.snapshot();
+            }
+            activeSnapshots.merge(version, 1, Integer::sum);
+        } finally {
+            gate.writeLock().unlock();
+        }
+
+        try {
+            var visible = new ArrayList<Version>(size.intValue());
+            for (var head : versions.values()) {
+                var current = head;
+                while (current != null && current.version > version) {
+                    current = current.previous;
+                }
+                if (current != null && !current.removed) {
+                    visible.add(current);
+                }
+            }
+            visible.sort(BY_REGISTRATION);
+
+            var next = new Visible(version, visible);
+            var last = lastVisible;
+            if (last == null || last.version < version) {
+                lastVisible = next;
+            }
+            return next.snapshot();
+        } finally {
+            release(version);
+        }
+    }
+
+    /**
+     * Libera o snapshot e, quando era o mais antigo, descarta as versões que deixaram de ser
+     * visíveis dos jobs sem novas escritas
+     */
+    private void release(long version) {
+        activeSnapshots.computeIfPresent(version,
+            (key, count) -> count == 1 ? null : count - 1);
+        var oldest = activeSnapshots.firstEntry();
+        if (retained.isEmpty() || (oldest != null && oldest.getKey() <= version)) {
+            return;
+        }
+        gate.readLock().lock();
+        try {
+            for (var id : retained) {
+                versions.compute(id, (key, head) -> head == null ? null : retain(key, prune(head)));
+            }
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    private boolean write(int id, Job job, Mode mode) {
+        var changed = new boolean[1];
+        gate.readLock().lock();
+        try {
+            versions.compute(id, (key, head) -> {
+                var exists = head != null && !head.removed;
+                if (mode == Mode.ADD && exists) {
+                    throw new IllegalArgumentException(
+                        String.format("Job já registrado: %d", id));
+                }
+                if (mode == Mode.UPDATE && !exists) {
+                    throw new IllegalArgumentException(
+                        String.format("Job não registrado: %d", id));
+                }
+                if (mode == Mode.REMOVE && !exists) {
+                    return head;
+                }
+
+                var version = clock.incrementAndGet();
+                var sequence = exists ? head.sequence : sequences.incrementAndGet();
+                var next = mode == Mode.REMOVE
+                    ? new Version(version, sequence, null, null, null, null, 0L, true, head)
+                    : new Version(version, sequence, job.getId(), job.getDescription(),
+                        job.getDateMaxCompleteProcess(), job.getEstimatedTimeEnd(),
+                        job.getEstimatedTimeNanos(), false, head);
+                changed[0] = true;
+                if (mode != Mode.UPDATE) {
+                    size.add(mode == Mode.ADD ? 1 : -1);
+                }
+                return retain(key, prune(next));
+            });
+        } finally {
+            gate.readLock().unlock();
+        }
+        return changed[0];
+    }
+
+    /**
+     * Descarta as versões que nenhum snapshot em construção pode enxergar
+     *
+     * @param head versão mais recente do job
+     * @return versão mais recente, ou {@code null} quando o job foi removido e nenhum snapshot
+     *     enxerga versões anteriores
+     */
+    private Version prune(Version head) {
+        // firstEntry em vez de isEmpty e firstKey: o último snapshot pode terminar entre as duas
+        var first = activeSnapshots.firstEntry();
+        var oldest = first == null ? Long.MAX_VALUE : first.getKey();
+        var current = head;
+        while (current.previous != null && current.version > oldest) {
+            current = current.previous;
+        }
+        current.previous = null;
+        return head.removed && head.previous == null ? null : head;
+    }
+
+    /**
+     * Registra a identificação para o descarte no término dos snapshots quando o job mantém
+     * versões anteriores
+     */
+    private Version retain(int id, Version head) {
+        if (head != null && head.previous != null) {
+            retained.add(id);
+        } else {
+            retained.remove(id);
+        }
+        return head;
+    }
+
+    private static int id(Job job) {
+        if (job.getId() == null) {
+            throw new IllegalArgumentException("Job sem identificação");
+        }
+        return job.getId();
+    }
+
+    private enum Mode {
+        ADD, UPDATE, REMOVE
+    }
+
+    /**
+     * Versões visíveis em uma versão do registro, na ordem de inclusão. Como as versões são
+     * imutáveis, são compartilhadas entre chamadas e cada snapshot recebe as próprias cópias dos
+     * jobs.
+     */
+    private static final class Visible {
+
+        private final long version;
+        private final List<Version> versions;
+
+        private Visible(long version, List<Version> versions) {
+            this.version = version;
+            this.versions = versions;
+        }
+
+        private RegistrySnapshot snapshot() {
+            var jobs = new ArrayList<Job>(versions.size());
+            for (var current : versions) {
+                jobs.add(current.job());
+            }
+            return new RegistrySnapshot(version, List.copyOf(jobs));
+        }
+    }
+
+    /**
+     * Dados imutáveis de um job em uma versão do registro, encadeados com a versão anterior
+     */
+    private static final class Version {
+
+        private final long version;
+        private final long sequence;
+        private final Integer id;
+        private final String description;
+        private final LocalDateTime dateMaxCompleteProcess;
+        private final String estimatedTimeEnd;
+        private final long estimatedTimeNanos;
+        private final boolean removed;
+        private volatile Version previous;
+
+        private Version(long version, long sequence, Integer id, String description,
+            LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd, long estimatedTimeNanos,
+            boolean removed, Version previous) {
+            this.version = version;
+            this.sequence = sequence;
+            this.id = id;
+            this.description = description;
+            this.dateMaxCompleteProcess = dateMaxCompleteProcess;
+            this.estimatedTimeEnd = estimatedTimeEnd;
+            this.estimatedTimeNanos = estimatedTimeNanos;
+            this.removed = removed;
+            this.previous = previous;
+        }
+
+        private Job job() {
+            return Job.restore(id, description, dateMaxCompleteProcess, estimatedTimeEnd,
+                estimatedTimeNanos);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.demo.vinicius;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot binário de um conjunto de jobs e, opcionalmente, das listas de execução calculadas pelo
+ * {@link FilterJobs#separatedJobs}. A leitura restaura os jobs sem executar o parser do tempo
+ * estimado, lendo o arquivo por regiões mapeadas em memória.
+ *
+ * <p>Formato da versão 1, com inteiros big-endian:
+ * <pre>
+ * cabeçalho   int magic "JOBS", short versão, short reservado
+ * strings     int quantidade, e para cada string int tamanho e bytes UTF-8
+ * jobs        int quantidade, e para cada job byte flags, int id, int descrição, long segundos
+ *             UTC e int nanos da data máxima de conclusão, int tempo estimado, long nanos
+ * listas      int quantidade, e para cada lista int tamanho e o índice de cada job
+ * </pre>
+ * Descrições e tempos estimados são referências para a tabela de strings, que guarda cada valor
+ * uma única vez, ou -1 quando nulos.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobSnapshot {
+
+    static final int MAGIC = 0x4A4F4253;
+    static final short VERSION = 1;
+    static final long DEFAULT_REGION_SIZE = 1L << 30;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int JOB_RECORD_SIZE = 33;
+    private static final byte HAS_ID = 1;
+    private static final byte HAS_DEADLINE = 1 << 1;
+
+    private final List<Job> jobs;
+    private final List<List<Job>> batches;
+
+    public static void write(Path path, List<Job> jobs) {
+        write(path, jobs, List.of());
+    }
+
+    /**
+     * Grava os jobs e as listas de execução. Os jobs das listas que não estão em {@code jobs} são
+     * incluídos no snapshot.
+     *
+     * @param path    arquivo do snapshot
+     * @param jobs    jobs
+     * @param batches listas de execução
+     */
+    public static void write(Path path, List<Job> jobs, List<List<Job>> batches) {
+        var positions = new IdentityHashMap<Job, Integer>(jobs.size() * 4 / 3 + 1);
+        var ordered = new ArrayList<Job>(jobs.size());
+        jobs.forEach(job -> register(job, positions, ordered));
+        batches.forEach(batch -> batch.forEach(job -> register(job, positions, ordered)));
+
+        var strings = new StringTable();
+        var descriptions = new int[ordered.size()];
+        var estimates = new int[ordered.size()];
+        for (var index = 0; index < ordered.size(); index++) {
+            descriptions[index] = strings.reference(ordered.get(index).getDescription());
+            estimates[index] = strings.reference(ordered.get(index).getEstimatedTimeEnd());
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            var writer = new Writer(channel);
+            writer.ensure(8).putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+
+            writer.ensure(4).putInt(strings.values().size());
+            for (var value : strings.values()) {
+                writer.putString(value);
+            }
+
+            writer.ensure(4).putInt(ordered.size());
+            for (var index = 0; index < ordered.size(); index++) {
+                writeJob(writer.ensure(JOB_RECORD_SIZE), ordered.get(index), descriptions[index],
+                    estimates[index]);
+            }
+
+            writer.ensure(4).putInt(batches.size());
+            for (var batch : batches) {
+                writer.ensure(4).putInt(batch.size());
+                for (var job : batch) {
+                    writer.ensure(4).putInt(positions.get(job));
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JobSnapshot read(Path path) {
+        return read(path, DEFAULT_REGION_SIZE);
+    }
+
+    static JobSnapshot read(Path path, long regionSize) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var reader = new Reader(channel, regionSize);
+            var header = reader.ensure(8);
+            var magic = header.getInt();
+            var version = header.getShort();
+            header.getShort();
+            if (magic != MAGIC) {
+                throw new IllegalArgumentException(
+                    String.format("Arquivo não é um snapshot de jobs: %s", path));
+            }
+            if (version != VERSION) {
+                throw new IllegalArgumentException(
+                    String.format("Versão do snapshot não suportada: %d", version));
+            }
+
+            var strings = new String[reader.readCount()];
+            for (var index = 0; index < strings.length; index++) {
+                strings[index] = reader.readString();
+            }
+
+            var jobs = new Job[reader.readCount()];
+            for (var index = 0; index < jobs.length; index++) {
+                jobs[index] = readJob(reader.ensure(JOB_RECORD_SIZE), strings);
+            }
+
+            var batchCount = reader.readCount();
+            var batches = new ArrayList<List<Job>>(batchCount);
+            for (var index = 0; index < batchCount; index++) {
+                var batch = new Job[reader.readCount()];
+                for (var position = 0; position < batch.length; position++) {
+                    batch[position] = jobs[reader.ensure(4).getInt()];
+                }
+                batches.add(List.of(batch));
+            }
+
+            return new JobSnapshot(List.of(jobs), List.copyOf(batches));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void register(Job job, Map<Job, Integer> positions, List<Job> ordered) {
+        if (!positions.containsKey(job)) {
+            positions.put(job, ordered.size());
+            ordered.add(job);
+        }
+    }
+
+    private static void writeJob(ByteBuffer buffer, Job job, int description, int estimate) {
+        var id = job.getId();
+        var deadline = job.getDateMaxCompleteProcess();
+        var flags = (byte) ((id != null ? HAS_ID : 0) | (deadline != null ? HAS_DEADLINE : 0));
+        buffer.put(flags)
+            .putInt(id != null ? id : 0)
+            .putInt(description)
+            .putLong(deadline != null ? deadline.toEpochSecond(ZoneOffset.UTC) : 0L)
+            .putInt(deadline != null ? deadline.getNano() : 0)
+            .putInt(estimate)
+            .putLong(job.getEstimatedTimeNanos());
+    }
+
+    private static Job readJob(ByteBuffer buffer, String[] strings) {
+        var flags = buffer.get();
+        var id = buffer.getInt();
+        var description = buffer.getInt();
+        var seconds = buffer.getLong();
+        var nanos = buffer.getInt();
+        var estimate = buffer.getInt();
+        var estimatedTimeNanos = buffer.getLong();
+
+        return Job.restore(
+            (flags & HAS_ID) != 0 ? id : null,
+            description == StringTable.NULL_REFERENCE ? null : strings[description],
+            (flags & HAS_DEADLINE) != 0
+                ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC)
+                : null,
+            estimate == StringTable.NULL_REFERENCE ? null : strings[estimate],
+            estimatedTimeNanos);
+    }
+
+    private static final class Writer {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+        private Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private ByteBuffer ensure(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+            return buffer;
+        }
+
+        private void putString(String value) throws IOException {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(4).putInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                write(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensure(bytes.length).put(bytes);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    /**
+     * Leitura sequencial do arquivo, mapeando uma nova região quando o próximo registro ultrapassa
+     * a região atual
+     */
+    private static final class Reader {
+
+        private final FileChannel channel;
+        private final long regionSize;
+        private final long size;
+        private MappedByteBuffer buffer;
+        private long regionStart;
+
+        private Reader(FileChannel channel, long regionSize) throws IOException {
+            this.channel = channel;
+            this.regionSize = regionSize;
+            this.size = channel.size();
+        }
+
+        private ByteBuffer ensure(int length) throws IOException {
+            if (buffer == null || buffer.remaining() < length) {
+                var next = buffer == null ? 0L : regionStart + buffer.position();
+                if (next + length > size) {
+                    throw new IllegalArgumentException("Snapshot de jobs incompleto");
+                }
+                buffer = channel.map(MapMode.READ_ONLY, next,
+                    Math.min(Math.max(regionSize, length), size - next));
+                regionStart = next;
+            }
+            return buffer;
+        }
+
+        private int readCount() throws IOException {
+            var count = ensure(4).getInt();
+            if (count < 0) {
+                throw new IllegalArgumentException("Snapshot de jobs inválido");
+            }
+            return count;
+        }
+
+        private String readString() throws IOException {
+            var length = readCount();
+            var bytes = new byte[length];
+            ensure(length).get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.demo.vinicius;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Agrupa sob demanda os jobs de um {@link Spliterator} ordenado em listas de execução, com a mesma
+ * regra do {@link CollectorJobs}: cada lista é emitida assim que o próximo job ultrapassa a
+ * duração máxima. Apenas a lista em construção e o job seguinte ficam em memória.
+ */
+final class NextFitSpliterator implements Spliterator<List<Job>> {
+
+    private final Spliterator<Job> source;
+    private final long maxNanos;
+    private Job pending;
+    private boolean exhausted;
+
+    NextFitSpliterator(Spliterator<Job> source, long maxNanos) {
+        this.source = source;
+        this.maxNanos = maxNanos;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<Job>> action) {
+        if (pending == null && !exhausted && !source.tryAdvance(job -> pending = job)) {
+            exhausted = true;
+        }
+        if (pending == null) {
+            return false;
+        }
+
+        var batch = new ArrayList<Job>();
+        var batchNanos = 0L;
+        while (pending != null) {
+            var nanos = pending.getEstimatedTimeNanos();
+            if (!batch.isEmpty() && batchNanos + nanos > maxNanos) {
+                break;
+            }
+            batch.add(pending);
+            batchNanos += nanos;
+            pending = null;
+            if (!exhausted && !source.tryAdvance(job -> pending = job)) {
+                exhausted = true;
+            }
+        }
+
+        SchedulingMetrics.global().recordBatches(batch.size(), 1, batchNanos, maxNanos);
+        action.accept(batch);
+        return true;
+    }
+
+    @Override
+    public Spliterator<List<Job>> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return pending == null ? source.estimateSize() : source.estimateSize() + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resumo da qualidade das listas de execução produzidas por uma {@link PackingStrategy}
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PackingReport {
+
+    private final PackingStrategy strategy;
+    private final int batchCount;
+    private final int jobCount;
+    private final Duration totalDuration;
+    private final Duration maxDuration;
+
+    /**
+     * Razão entre a duração total dos jobs e a capacidade total das listas de execução
+     *
+     * @return valor entre 0 e 1 quando nenhum job excede a duração máxima
+     */
+    public double getFillRatio() {
+        if (batchCount == 0) {
+            return 0D;
+        }
+        return (double) totalDuration.toNanos() / ((double) maxDuration.toNanos() * batchCount);
+    }
+
+    static PackingReport of(PackingStrategy strategy, List<List<Job>> batches,
+        Duration maxDuration) {
+        var jobCount = 0;
+        var totalNanos = 0L;
+        for (var batch : batches) {
+            jobCount += batch.size();
+            for (var job : batch) {
+                totalNanos += job.getEstimatedTimeNanos();
+            }
+        }
+        return new PackingReport(strategy, batches.size(), jobCount, Duration.ofNanos(totalNanos),
+            maxDuration);
+    }
+}
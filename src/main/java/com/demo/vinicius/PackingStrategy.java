@@ -0,0 +1,192 @@
+package com.demo.vinicius;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Estratégias de agrupamento dos jobs em listas de execução. Todas recebem os jobs na ordem da
+ * menor para a maior data máxima de conclusão e mantêm essa ordem dentro de cada lista.
+ */
+public enum PackingStrategy {
+
+    /**
+     * Adiciona na lista atual e abre uma nova lista quando o job não cabe, sem revisitar as
+     * anteriores. Comportamento do {@link CollectorJobs}.
+     */
+    NEXT_FIT {
+        @Override
+        List<List<Job>> pack(List<Job> jobs, long maxNanos) {
+            var batches = new JobBatches(maxNanos);
+            jobs.forEach(batches::add);
+            return batches.batches();
+        }
+    },
+
+    /**
+     * Adiciona na primeira lista aberta com capacidade restante suficiente
+     */
+    FIRST_FIT {
+        @Override
+        List<List<Job>> pack(List<Job> jobs, long maxNanos) {
+            return firstFit(jobs, maxNanos);
+        }
+    },
+
+    /**
+     * {@link #FIRST_FIT} ordenando os jobs com a mesma data máxima de conclusão da maior para a
+     * menor duração
+     */
+    FIRST_FIT_DECREASING {
+        @Override
+        List<List<Job>> pack(List<Job> jobs, long maxNanos) {
+            return firstFit(decreasingWithinDeadline(jobs), maxNanos);
+        }
+    },
+
+    /**
+     * Adiciona na lista aberta com a menor capacidade restante suficiente
+     */
+    BEST_FIT {
+        @Override
+        List<List<Job>> pack(List<Job> jobs, long maxNanos) {
+            return bestFit(jobs, maxNanos);
+        }
+    },
+
+    /**
+     * {@link #BEST_FIT} ordenando os jobs com a mesma data máxima de conclusão da maior para a
+     * menor duração
+     */
+    BEST_FIT_DECREASING {
+        @Override
+        List<List<Job>> pack(List<Job> jobs, long maxNanos) {
+            return bestFit(decreasingWithinDeadline(jobs), maxNanos);
+        }
+    };
+
+    private static final Comparator<Job> DEADLINE_THEN_LONGEST =
+        Comparator.comparing(Job::getDateMaxCompleteProcess)
+            .thenComparing(Comparator.comparingLong(Job::getEstimatedTimeNanos).reversed());
+
+    /**
+     * Agrupa os jobs em listas de execução
+     *
+     * @param jobs     jobs ordenados pela data máxima de conclusão
+     * @param maxNanos duração máxima de cada lista em nanossegundos
+     * @return listas de execução na ordem de abertura
+     */
+    abstract List<List<Job>> pack(List<Job> jobs, long maxNanos);
+
+    private static List<Job> decreasingWithinDeadline(List<Job> jobs) {
+        var sorted = new ArrayList<>(jobs);
+        sorted.sort(DEADLINE_THEN_LONGEST);
+        return sorted;
+    }
+
+    private static List<List<Job>> firstFit(List<Job> jobs, long maxNanos) {
+        var batches = new ArrayList<List<Job>>();
+        var capacity = new CapacityTree(jobs.size());
+
+        for (var job : jobs) {
+            var nanos = job.getEstimatedTimeNanos();
+            var index = capacity.firstFit(nanos);
+            if (index < 0) {
+                index = batches.size();
+                batches.add(new ArrayList<>());
+                capacity.set(index, Math.max(maxNanos - nanos, 0L));
+            } else {
+                capacity.set(index, capacity.get(index) - nanos);
+            }
+            batches.get(index).add(job);
+        }
+        return batches;
+    }
+
+    private static List<List<Job>> bestFit(List<Job> jobs, long maxNanos) {
+        var batches = new ArrayList<List<Job>>();
+        var open = new TreeSet<>(
+            Comparator.comparingLong(Bin::getRemaining).thenComparingInt(Bin::getIndex));
+
+        for (var job : jobs) {
+            var nanos = job.getEstimatedTimeNanos();
+            var bin = open.ceiling(new Bin(-1, nanos));
+            if (bin == null) {
+                bin = new Bin(batches.size(), Math.max(maxNanos - nanos, 0L));
+                batches.add(new ArrayList<>());
+            } else {
+                open.remove(bin);
+                bin.remaining -= nanos;
+            }
+            open.add(bin);
+            batches.get(bin.index).add(job);
+        }
+        return batches;
+    }
+
+    private static final class Bin {
+
+        private final int index;
+        private long remaining;
+
+        private Bin(int index, long remaining) {
+            this.index = index;
+            this.remaining = remaining;
+        }
+
+        private int getIndex() {
+            return index;
+        }
+
+        private long getRemaining() {
+            return remaining;
+        }
+    }
+
+    /**
+     * Árvore de segmentos com o máximo da capacidade restante das listas abertas, permitindo
+     * localizar a primeira lista com espaço suficiente em O(log n)
+     */
+    private static final class CapacityTree {
+
+        private static final long CLOSED = -1L;
+
+        private final int leaves;
+        private final long[] tree;
+
+        private CapacityTree(int size) {
+            var leaves = 1;
+            while (leaves < Math.max(size, 1)) {
+                leaves <<= 1;
+            }
+            this.leaves = leaves;
+            this.tree = new long[leaves * 2];
+            Arrays.fill(tree, CLOSED);
+        }
+
+        private long get(int index) {
+            return tree[leaves + index];
+        }
+
+        private void set(int index, long remaining) {
+            var node = leaves + index;
+            tree[node] = remaining;
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = Math.max(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        private int firstFit(long nanos) {
+            if (tree[1] < nanos) {
+                return -1;
+            }
+            var node = 1;
+            while (node < leaves) {
+                node = tree[node * 2] >= nanos ? node * 2 : node * 2 + 1;
+            }
+            return node - leaves;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Planejamento de uma janela dividida em partições pelo {@link WindowPartitioner}. Cada partição
+ * é agrupada com a regra do {@link CollectorJobs} em uma tarefa do {@link ForkJoinPool} e as
+ * partições vizinhas são unidas por {@link JobBatches#combine}, que une as listas da fronteira
+ * quando cabem na duração máxima. O resultado é o mesmo do agrupamento sequencial da janela.
+ */
+@SuppressWarnings("serial")
+final class PartitionedPlanning extends RecursiveTask<JobBatches> {
+
+    private final JobIndex index;
+    private final LocalDateTime[] bounds;
+    private final int from;
+    private final int to;
+    private final long maxNanos;
+
+    private PartitionedPlanning(JobIndex index, LocalDateTime[] bounds, int from, int to,
+        long maxNanos) {
+        this.index = index;
+        this.bounds = bounds;
+        this.from = from;
+        this.to = to;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Agrupa os jobs da janela planejando as partições em paralelo
+     *
+     * @param index       índice de jobs
+     * @param start       data de início da janela
+     * @param end         data fim da janela
+     * @param partitioner divisão da janela em partições
+     * @param maxNanos    duração máxima de cada lista de execução
+     * @return listas de execução da janela
+     */
+    static JobBatches plan(JobIndex index, LocalDateTime start, LocalDateTime end,
+        WindowPartitioner partitioner, long maxNanos) {
+        var bounds = bounds(start, end, partitioner);
+        var task = new PartitionedPlanning(index, bounds, 0, bounds.length - 1, maxNanos);
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    private static LocalDateTime[] bounds(LocalDateTime start, LocalDateTime end,
+        WindowPartitioner partitioner) {
+        var bounds = new ArrayList<LocalDateTime>();
+        bounds.add(start);
+        for (var cut : partitioner.split(start, end)) {
+            if (cut.isAfter(bounds.get(bounds.size() - 1)) && cut.isBefore(end)) {
+                bounds.add(cut);
+            }
+        }
+        bounds.add(end);
+        return bounds.toArray(LocalDateTime[]::new);
+    }
+
+    @Override
+    protected JobBatches compute() {
+        if (to - from == 1) {
+            return partition(from);
+        }
+        var middle = (from + to) >>> 1;
+        var left = new PartitionedPlanning(index, bounds, from, middle, maxNanos);
+        var right = new PartitionedPlanning(index, bounds, middle, to, maxNanos);
+        left.fork();
+        var rightBatches = right.compute();
+        return left.join().combine(rightBatches);
+    }
+
+    private JobBatches partition(int position) {
+        var batches = new JobBatches(maxNanos);
+        var last = position == bounds.length - 2;
+        var upper = bounds[position + 1];
+        index.range(bounds[position], upper)
+            .filter(job -> last || !job.getDateMaxCompleteProcess().equals(upper))
+            .forEachOrdered(batches::add);
+        return batches;
+    }
+}
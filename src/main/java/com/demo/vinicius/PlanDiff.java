@@ -0,0 +1,54 @@
+package com.demo.vinicius;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Diferença entre as listas de execução antes e depois de uma alteração no
+ * {@link IncrementalPlanner}. As listas removidas formam um trecho contínuo do planejamento
+ * anterior, que é substituído pelas listas adicionadas na mesma posição, logo após a lista
+ * {@code previous}, ou no início quando ela é nula.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class PlanDiff {
+
+    static final PlanDiff EMPTY = new PlanDiff(null, List.of(), List.of());
+
+    private final List<Job> previous;
+    private final List<List<Job>> removed;
+    private final List<List<Job>> added;
+
+    /**
+     * Cria a diferença descartando as listas iguais no início e no fim dos dois trechos
+     *
+     * @param previous lista anterior ao trecho, ou {@code null} quando o trecho está no início
+     * @param removed  listas substituídas
+     * @param added    listas que as substituem
+     * @return diferença
+     */
+    static PlanDiff of(List<Job> previous, List<List<Job>> removed, List<List<Job>> added) {
+        var from = 0;
+        var removedTo = removed.size();
+        var addedTo = added.size();
+        while (from < removedTo && from < addedTo && removed.get(from).equals(added.get(from))) {
+            from++;
+        }
+        while (removedTo > from && addedTo > from
+            && removed.get(removedTo - 1).equals(added.get(addedTo - 1))) {
+            removedTo--;
+            addedTo--;
+        }
+        var anchor = from > 0 ? added.get(from - 1) : previous;
+        return new PlanDiff(anchor, List.copyOf(removed.subList(from, removedTo)),
+            List.copyOf(added.subList(from, addedTo)));
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+}
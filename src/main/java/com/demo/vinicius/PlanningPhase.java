@@ -0,0 +1,28 @@
+package com.demo.vinicius;
+
+/**
+ * Etapas do cálculo das listas de execução medidas pelo {@link SchedulingMetrics}
+ */
+public enum PlanningPhase {
+
+    /**
+     * Localização do range de datas no índice, incluindo a reordenação do índice após alterações
+     */
+    RANGE,
+
+    /**
+     * Percurso do range e agrupamento pelo {@link CollectorJobs}, incluindo o finisher
+     */
+    COLLECT,
+
+    /**
+     * Conversão do contêiner do {@link CollectorJobs} no map indexado. Não é registrada por
+     * {@link CollectorJobs#toBatches}, que retorna as listas do contêiner sem conversão.
+     */
+    FINISH,
+
+    /**
+     * Agrupamento pelas estratégias diferentes de {@link PackingStrategy#NEXT_FIT}
+     */
+    PACK
+}
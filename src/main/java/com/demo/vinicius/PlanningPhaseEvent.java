@@ -0,0 +1,17 @@
+package com.demo.vinicius;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.demo.vinicius.PlanningPhase")
+@Label("Planning Phase")
+@Category("Scheduling")
+@Description("Duração de uma etapa do cálculo das listas de execução")
+class PlanningPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,33 @@
+package com.demo.vinicius;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Jobs do {@link JobRegistry} em uma versão, imutáveis diante das escritas seguintes no registro
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class RegistrySnapshot {
+
+    private final long version;
+    private final List<Job> jobs;
+
+    /**
+     * Cria o filtro sobre os jobs do snapshot
+     *
+     * @param maxHourDuration duração máxima em horas de cada lista de execução
+     * @return filtro de jobs
+     */
+    public FilterJobs filter(int maxHourDuration) {
+        return FilterJobs.createFilter(jobs, maxHourDuration);
+    }
+
+    public FilterJobs filter(int maxHourDuration, PackingStrategy packingStrategy) {
+        return FilterJobs.createFilter(jobs, maxHourDuration, packingStrategy);
+    }
+}
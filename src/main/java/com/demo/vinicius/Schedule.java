@@ -0,0 +1,24 @@
+package com.demo.vinicius;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado do {@link TimelineScheduler}: listas de execução posicionadas na linha do tempo e os
+ * jobs não agendados.
+ *
+ * <p>Um job não agendado não é necessariamente inviável: ele foi retirado para que a maior
+ * quantidade possível de jobs fosse concluída no prazo, e poderia cumprir a sua data máxima de
+ * conclusão se executado sozinho ou no lugar de outros jobs.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class Schedule {
+
+    private final List<ScheduledBatch> batches;
+    private final List<Job> unscheduled;
+}
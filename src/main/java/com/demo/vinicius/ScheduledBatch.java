@@ -0,0 +1,40 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lista de execução posicionada na linha do tempo, com os jobs executados em sequência
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ScheduledBatch {
+
+    private final List<ScheduledJob> jobs;
+    private final LocalDateTime start;
+    private final LocalDateTime finish;
+
+    /**
+     * Posiciona os jobs em sequência a partir da data de início
+     *
+     * @param jobs  jobs da lista de execução
+     * @param start data de início da lista
+     * @return lista de execução posicionada
+     */
+    static ScheduledBatch of(List<Job> jobs, LocalDateTime start) {
+        var scheduled = new ScheduledJob[jobs.size()];
+        var cursor = start;
+        for (var index = 0; index < scheduled.length; index++) {
+            var job = jobs.get(index);
+            var finish = cursor.plusNanos(job.getEstimatedTimeNanos());
+            scheduled[index] = new ScheduledJob(job, cursor, finish);
+            cursor = finish;
+        }
+        return new ScheduledBatch(List.of(scheduled), start, cursor);
+    }
+}
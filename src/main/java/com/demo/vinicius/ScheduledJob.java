@@ -0,0 +1,29 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Job posicionado na linha do tempo com início e término calculados
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ScheduledJob {
+
+    private final Job job;
+    private final LocalDateTime start;
+    private final LocalDateTime finish;
+
+    /**
+     * Indica se o término ultrapassa a data máxima de conclusão do job
+     *
+     * @return {@code true} quando o job termina após a data máxima de conclusão
+     */
+    public boolean isLate() {
+        return finish.isAfter(job.getDateMaxCompleteProcess());
+    }
+}
@@ -0,0 +1,124 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas acumuladas do cálculo das listas de execução. Os mesmos dados são publicados como
+ * eventos do JDK Flight Recorder na categoria {@code Scheduling}, visíveis em gravações de produção
+ * sem a necessidade de um profiler.
+ */
+public final class SchedulingMetrics {
+
+    private static final SchedulingMetrics GLOBAL = new SchedulingMetrics();
+
+    private final LongAdder jobsProcessed = new LongAdder();
+    private final LongAdder batchesProduced = new LongAdder();
+    private final LongAdder usedNanos = new LongAdder();
+    private final LongAdder capacityNanos = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final Map<PlanningPhase, LongAdder> phaseNanos = new EnumMap<>(PlanningPhase.class);
+    private final Map<PlanningPhase, LongAdder> phaseCount = new EnumMap<>(PlanningPhase.class);
+
+    private SchedulingMetrics() {
+        for (var phase : PlanningPhase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+            phaseCount.put(phase, new LongAdder());
+        }
+    }
+
+    public static SchedulingMetrics global() {
+        return GLOBAL;
+    }
+
+    public long getJobsProcessed() {
+        return jobsProcessed.sum();
+    }
+
+    public long getBatchesProduced() {
+        return batchesProduced.sum();
+    }
+
+    public long getParseFailures() {
+        return parseFailures.sum();
+    }
+
+    /**
+     * Preenchimento médio das listas de execução em relação à duração máxima
+     *
+     * @return razão entre a duração dos jobs e a capacidade das listas produzidas
+     */
+    public double getAverageFill() {
+        var capacity = capacityNanos.sum();
+        return capacity == 0 ? 0D : (double) usedNanos.sum() / capacity;
+    }
+
+    public Duration getPhaseTime(PlanningPhase phase) {
+        return Duration.ofNanos(phaseNanos.get(phase).sum());
+    }
+
+    public long getPhaseCount(PlanningPhase phase) {
+        return phaseCount.get(phase).sum();
+    }
+
+    public void reset() {
+        jobsProcessed.reset();
+        batchesProduced.reset();
+        usedNanos.reset();
+        capacityNanos.reset();
+        parseFailures.reset();
+        phaseNanos.values().forEach(LongAdder::reset);
+        phaseCount.values().forEach(LongAdder::reset);
+    }
+
+    void recordBatches(long jobs, long batches, long totalNanos, long maxNanos) {
+        jobsProcessed.add(jobs);
+        batchesProduced.add(batches);
+        usedNanos.add(totalNanos);
+        capacityNanos.add(batches * maxNanos);
+    }
+
+    void recordParseFailure(String value) {
+        parseFailures.increment();
+
+        var event = new JobParseFailureEvent();
+        if (event.shouldCommit()) {
+            event.value = value;
+            event.commit();
+        }
+    }
+
+    PhaseTimer start(PlanningPhase phase) {
+        return new PhaseTimer(phase);
+    }
+
+    /**
+     * Mede a duração de uma etapa e registra o evento correspondente
+     */
+    final class PhaseTimer {
+
+        private final PlanningPhase phase;
+        private final PlanningPhaseEvent event = new PlanningPhaseEvent();
+        private final long start;
+
+        private PhaseTimer(PlanningPhase phase) {
+            this.phase = phase;
+            this.event.begin();
+            this.start = System.nanoTime();
+        }
+
+        void stop() {
+            var elapsed = System.nanoTime() - start;
+            phaseNanos.get(phase).add(elapsed);
+            phaseCount.get(phase).increment();
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase.name();
+                event.commit();
+            }
+        }
+    }
+}
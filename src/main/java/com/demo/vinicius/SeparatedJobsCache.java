@@ -0,0 +1,139 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Cache LRU limitado dos resultados de {@link FilterJobs#separatedJobs}, indexado pelo índice de
+ * jobs do filtro, janela de execução, duração máxima e estratégia de agrupamento. Filtros com jobs
+ * diferentes, ou o mesmo filtro antes e depois da inclusão de jobs, não compartilham resultados.
+ *
+ * <p>Cada resultado guarda a revisão dos jobs ({@link Job#revision()}) do momento do cálculo e é
+ * descartado quando algum job do próprio resultado tem a data máxima de conclusão ou o tempo
+ * estimado alterados. A inclusão de jobs pelo {@link FilterJobs#addJobs} e a reordenação do índice
+ * do filtro, após a alteração da data de algum dos seus jobs, limpam o cache.
+ */
+public class SeparatedJobsCache {
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation;
+
+    public SeparatedJobsCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException(
+                String.format("Quantidade máxima de entradas inválida: %d", maxEntries));
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > SeparatedJobsCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        generation++;
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized List<List<Job>> get(Key key) {
+        var entry = entries.get(key);
+        if (entry == null || entry.isStale()) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.batches;
+    }
+
+    /**
+     * Guarda o resultado, descartando-o quando o cache foi limpo durante o cálculo
+     *
+     * @param key        chave do resultado
+     * @param revision   revisão dos jobs no início do cálculo
+     * @param generation geração do cache no início do cálculo
+     * @param batches    listas de execução
+     */
+    synchronized void put(Key key, long revision, long generation, List<List<Job>> batches) {
+        if (generation == this.generation) {
+            entries.put(key, new Entry(revision, batches));
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class Key {
+
+        private final JobIndex index;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final Duration maxDuration;
+        private final PackingStrategy packingStrategy;
+    }
+
+    private static final class Entry {
+
+        private long revision;
+        private final List<List<Job>> batches;
+
+        private Entry(long revision, List<List<Job>> batches) {
+            this.revision = revision;
+            this.batches = batches;
+        }
+
+        private boolean isStale() {
+            var latest = Job.revision();
+            if (latest == revision) {
+                return false;
+            }
+            for (var batch : batches) {
+                for (var job : batch) {
+                    if (job.changedSince(revision)) {
+                        return true;
+                    }
+                }
+            }
+            revision = latest;
+            return false;
+        }
+    }
+}
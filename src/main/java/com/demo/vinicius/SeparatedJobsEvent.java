@@ -0,0 +1,35 @@
+package com.demo.vinicius;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.demo.vinicius.SeparatedJobs")
+@Label("Separated Jobs")
+@Category("Scheduling")
+@Description("Cálculo das listas de execução de uma janela pelo FilterJobs")
+class SeparatedJobsEvent extends Event {
+
+    @Label("Window Start")
+    String windowStart;
+
+    @Label("Window End")
+    String windowEnd;
+
+    @Label("Packing Strategy")
+    String strategy;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Label("Jobs")
+    int jobs;
+
+    @Label("Batches")
+    int batches;
+}
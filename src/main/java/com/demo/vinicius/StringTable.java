@@ -0,0 +1,38 @@
+package com.demo.vinicius;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela de strings sem repetições, em que cada valor é referenciado pela posição da primeira
+ * ocorrência
+ */
+final class StringTable {
+
+    static final int NULL_REFERENCE = -1;
+
+    private final Map<String, Integer> references = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Retorna a referência do valor, incluindo-o na tabela quando ainda não existe
+     *
+     * @param value valor
+     * @return posição do valor ou {@link #NULL_REFERENCE} quando nulo
+     */
+    int reference(String value) {
+        if (value == null) {
+            return NULL_REFERENCE;
+        }
+        return references.computeIfAbsent(value, key -> {
+            values.add(key);
+            return values.size() - 1;
+        });
+    }
+
+    List<String> values() {
+        return values;
+    }
+}
@@ -0,0 +1,104 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Posiciona as listas de execução em sequência na linha do tempo a partir da data de início.
+ *
+ * <p>Os jobs são percorridos pela menor data máxima de conclusão (earliest deadline first). Quando
+ * o job atual terminaria após a sua data máxima, o job mais longo aceito até o momento é retirado
+ * através de um heap de duração (algoritmo de Moore-Hodgson), o que maximiza a quantidade de jobs
+ * concluídos no prazo em O(n log n). Os jobs retirados são reportados como não agendados
+ * ({@link Schedule#getUnscheduled()}), mesmo quando cumpririam o prazo sozinhos.
+ *
+ * <p>Os jobs aceitos são agrupados em ordem pelo {@link PackingStrategy#NEXT_FIT}, de modo que a
+ * sequência executada é a mesma avaliada pelo algoritmo. A estratégia de agrupamento do
+ * {@link FilterJobs} é ignorada.
+ */
+final class TimelineScheduler {
+
+    private static final Comparator<Candidate> LONGEST_FIRST =
+        Comparator.comparingLong(Candidate::getNanos).reversed()
+            .thenComparing(Comparator.comparingInt(Candidate::getPosition).reversed());
+
+    private TimelineScheduler() {
+    }
+
+    /**
+     * Monta a linha do tempo
+     *
+     * @param jobs     jobs ordenados pela data máxima de conclusão
+     * @param start    data de início da janela de execução
+     * @param maxNanos duração máxima de cada lista de execução em nanossegundos
+     * @return listas posicionadas e jobs não agendados
+     */
+    static Schedule schedule(Stream<Job> jobs, LocalDateTime start, long maxNanos) {
+        var ordered = jobs.toArray(Job[]::new);
+        var accepted = new boolean[ordered.length];
+        var heap = new PriorityQueue<Candidate>(LONGEST_FIRST);
+        var elapsed = 0L;
+
+        for (var position = 0; position < ordered.length; position++) {
+            var job = ordered[position];
+            var nanos = job.getEstimatedTimeNanos();
+            heap.add(new Candidate(position, nanos));
+            accepted[position] = true;
+            elapsed += nanos;
+
+            var due = Duration.between(start, job.getDateMaxCompleteProcess()).toNanos();
+            if (elapsed > due) {
+                var longest = heap.poll();
+                accepted[longest.position] = false;
+                elapsed -= longest.nanos;
+            }
+        }
+
+        var unscheduled = new ArrayList<Job>(ordered.length - heap.size());
+        var batches = new JobBatches(maxNanos);
+        for (var position = 0; position < ordered.length; position++) {
+            if (accepted[position]) {
+                batches.add(ordered[position]);
+            } else {
+                unscheduled.add(ordered[position]);
+            }
+        }
+
+        return new Schedule(place(batches.batches(), start), List.copyOf(unscheduled));
+    }
+
+    private static List<ScheduledBatch> place(List<List<Job>> batches, LocalDateTime start) {
+        var placed = new ArrayList<ScheduledBatch>(batches.size());
+        var cursor = start;
+        for (var batch : batches) {
+            var scheduled = ScheduledBatch.of(batch, cursor);
+            placed.add(scheduled);
+            cursor = scheduled.getFinish();
+        }
+        return List.copyOf(placed);
+    }
+
+    private static final class Candidate {
+
+        private final int position;
+        private final long nanos;
+
+        private Candidate(int position, long nanos) {
+            this.position = position;
+            this.nanos = nanos;
+        }
+
+        private int getPosition() {
+            return position;
+        }
+
+        private long getNanos() {
+            return nanos;
+        }
+    }
+}
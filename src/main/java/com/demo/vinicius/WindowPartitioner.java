@@ -0,0 +1,83 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Divisão de uma janela de execução em partições consecutivas, planejadas de forma independente
+ * pelo {@link FilterJobs#partitioned}. Cada partição vai de um ponto de corte até o seguinte,
+ * excluindo o job com data igual ao corte seguinte, que pertence à próxima partição. A última
+ * partição inclui o fim da janela.
+ */
+@FunctionalInterface
+public interface WindowPartitioner {
+
+    /**
+     * Retorna os pontos de corte da janela. Pontos fora de {@code (start, end)} são ignorados.
+     *
+     * @param start data de início da janela
+     * @param end   data fim da janela
+     * @return pontos de corte em ordem crescente
+     */
+    List<LocalDateTime> split(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Partições de mesma duração a partir do início da janela
+     *
+     * @param size duração de cada partição
+     * @return particionador por duração
+     */
+    static WindowPartitioner every(Duration size) {
+        if (size.isNegative() || size.isZero()) {
+            throw new IllegalArgumentException(
+                String.format("Duração da partição inválida: %s", size));
+        }
+        return (start, end) -> {
+            var cuts = new ArrayList<LocalDateTime>();
+            for (var cut = start.plus(size); cut.isBefore(end); cut = cut.plus(size)) {
+                cuts.add(cut);
+            }
+            return cuts;
+        };
+    }
+
+    /**
+     * Uma partição por dia, com cortes à meia-noite
+     *
+     * @return particionador por dia
+     */
+    static WindowPartitioner daily() {
+        return shifts(LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * Uma partição por turno, com cortes nos horários de início de cada turno
+     *
+     * @param starts horários de início dos turnos
+     * @return particionador por turno
+     */
+    static WindowPartitioner shifts(LocalTime... starts) {
+        if (starts.length == 0) {
+            throw new IllegalArgumentException("Nenhum turno informado");
+        }
+        var sorted = starts.clone();
+        Arrays.sort(sorted);
+        return (start, end) -> {
+            var cuts = new ArrayList<LocalDateTime>();
+            for (var date = start.toLocalDate(); !date.isAfter(end.toLocalDate());
+                date = date.plusDays(1)) {
+                for (var time : sorted) {
+                    var cut = date.atTime(time);
+                    if (cut.isAfter(start) && cut.isBefore(end)) {
+                        cuts.add(cut);
+                    }
+                }
+            }
+            return cuts;
+        };
+    }
+}
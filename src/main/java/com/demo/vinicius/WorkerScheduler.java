@@ -0,0 +1,111 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Distribui as listas de execução entre workers paralelos. As listas são percorridas pela menor
+ * data máxima de conclusão e cada uma é atribuída ao worker disponível mais cedo, obtido de um
+ * heap de disponibilidade em O(log w).
+ */
+final class WorkerScheduler {
+
+    private static final Comparator<List<Job>> BY_EARLIEST_DEADLINE =
+        Comparator.comparing(batch -> batch.get(0).getDateMaxCompleteProcess());
+
+    private static final Comparator<Worker> BY_AVAILABILITY =
+        Comparator.comparing(Worker::getAvailable).thenComparingInt(Worker::getIndex);
+
+    private WorkerScheduler() {
+    }
+
+    /**
+     * Monta a linha do tempo de cada worker
+     *
+     * @param batches listas de execução com os jobs ordenados pela data máxima de conclusão
+     * @param start   data de início da janela de execução
+     * @param workers quantidade de workers
+     * @return linha do tempo dos workers
+     */
+    static ClusterSchedule schedule(List<List<Job>> batches, LocalDateTime start, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException(
+                String.format("Quantidade de workers inválida: %d", workers));
+        }
+
+        var ordered = new ArrayList<List<Job>>(batches.size());
+        for (var batch : batches) {
+            if (!batch.isEmpty()) {
+                ordered.add(batch);
+            }
+        }
+        ordered.sort(BY_EARLIEST_DEADLINE);
+
+        var available = new PriorityQueue<Worker>(workers, BY_AVAILABILITY);
+        var timelines = new ArrayList<List<ScheduledBatch>>(workers);
+        for (var index = 0; index < workers; index++) {
+            available.add(new Worker(index, start));
+            timelines.add(new ArrayList<>());
+        }
+
+        var lateJobs = new ArrayList<ScheduledJob>();
+        var maxLateness = Duration.ZERO;
+        for (var batch : ordered) {
+            var worker = available.poll();
+            var scheduled = ScheduledBatch.of(batch, worker.available);
+            timelines.get(worker.index).add(scheduled);
+
+            for (var job : scheduled.getJobs()) {
+                if (job.isLate()) {
+                    lateJobs.add(job);
+                    var lateness =
+                        Duration.between(job.getJob().getDateMaxCompleteProcess(), job.getFinish());
+                    if (lateness.compareTo(maxLateness) > 0) {
+                        maxLateness = lateness;
+                    }
+                }
+            }
+
+            worker.available = scheduled.getFinish();
+            available.add(worker);
+        }
+
+        var result = new ArrayList<WorkerTimeline>(workers);
+        var finish = start;
+        for (var index = 0; index < workers; index++) {
+            var timeline = timelines.get(index);
+            var workerFinish =
+                timeline.isEmpty() ? start : timeline.get(timeline.size() - 1).getFinish();
+            if (workerFinish.isAfter(finish)) {
+                finish = workerFinish;
+            }
+            result.add(new WorkerTimeline(index, List.copyOf(timeline), workerFinish));
+        }
+
+        return new ClusterSchedule(List.copyOf(result), Duration.between(start, finish),
+            maxLateness, List.copyOf(lateJobs));
+    }
+
+    private static final class Worker {
+
+        private final int index;
+        private LocalDateTime available;
+
+        private Worker(int index, LocalDateTime available) {
+            this.index = index;
+            this.available = available;
+        }
+
+        private int getIndex() {
+            return index;
+        }
+
+        private LocalDateTime getAvailable() {
+            return available;
+        }
+    }
+}
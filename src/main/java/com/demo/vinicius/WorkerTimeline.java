@@ -0,0 +1,21 @@
+package com.demo.vinicius;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Listas de execução atribuídas a um worker, em sequência na linha do tempo
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class WorkerTimeline {
+
+    private final int worker;
+    private final List<ScheduledBatch> batches;
+    private final LocalDateTime finish;
+}
@@ -0,0 +1,144 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - BatchOptimizer")
+class BatchOptimizerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final Duration MAX_DURATION = Duration.ofHours(8);
+
+    @Test
+    @DisplayName("Deve reduzir a quantidade de listas de execução do next fit")
+    void shouldReduceNextFitBatches() {
+        var job1 = buildJob(1, START.plusHours(1), "5");
+        var job2 = buildJob(2, START.plusHours(2), "5");
+        var job3 = buildJob(3, START.plusHours(2), "3");
+        var job4 = buildJob(4, START.plusHours(2), "3");
+        var greedy = FilterJobs.createFilter(List.of(job1, job2, job3, job4), 8)
+            .separatedJobs(START, START.plusDays(1));
+
+        var optimized = new BatchOptimizer(MAX_DURATION, Duration.ofSeconds(1)).optimize(greedy);
+
+        assertEquals(3, greedy.size());
+        assertEquals(2, optimized.size());
+        for (var batch : optimized) {
+            assertEquals(2, batch.size());
+        }
+        assertDeadlineOrder(optimized);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem das datas entre as listas executadas em sequência")
+    void shouldKeepDeadlineOrderAcrossBatches() {
+        var jobA = buildJob(1, START.plusHours(1), "2");
+        var jobB = buildJob(2, START.plusHours(2), "7");
+        var jobC = buildJob(3, START.plusHours(3), "1");
+        var jobD = buildJob(4, START.plusHours(4), "6");
+        var greedy = List.of(List.of(jobA), List.of(jobB, jobC), List.of(jobD));
+
+        var optimized = new BatchOptimizer(MAX_DURATION, Duration.ofMillis(100)).optimize(greedy);
+
+        assertEquals(greedy, optimized);
+    }
+
+    @Test
+    @DisplayName("Deve manter a duração máxima, a ordem das datas e todos os jobs")
+    void shouldKeepConstraints() {
+        var jobs = IntStream.range(0, 2_000)
+            .mapToObj(id -> buildJob(id, START.plusHours(id * 7L % 2_000 / 25),
+                String.format("%d:%02d", id % 6, id * 13 % 60)))
+            .collect(Collectors.toList());
+        var filterJobs = FilterJobs.createFilter(jobs, 8);
+        var end = START.plusDays(5);
+        var greedy = filterJobs.separatedJobs(START, end);
+
+        var optimized = filterJobs.optimizedJobs(START, end, Duration.ofMillis(300));
+
+        assertThat(optimized.size(), lessThan(greedy.size()));
+        for (var batch : optimized) {
+            var nanos = batch.stream().mapToLong(Job::getEstimatedTimeNanos).sum();
+            assertThat(nanos, lessThanOrEqualTo(MAX_DURATION.toNanos()));
+        }
+        assertDeadlineOrder(optimized);
+        assertThat(optimized.stream().flatMap(List::stream).collect(Collectors.toList()),
+            containsInAnyOrder(greedy.stream().flatMap(List::stream).toArray()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o agrupamento inicial quando o tempo limite é zero")
+    void shouldReturnInitialPlanWithoutBudget() {
+        var greedy = FilterJobs.createFilter(List.of(buildJob(1, START.plusHours(1), "5"),
+            buildJob(2, START.plusHours(2), "5")), 8).separatedJobs(START, START.plusDays(1));
+
+        assertEquals(greedy, new BatchOptimizer(MAX_DURATION, Duration.ZERO).optimize(greedy));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchOptimizer(MAX_DURATION, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    @DisplayName("Deve manter como estão as listas que excedem a duração máxima")
+    void shouldKeepOversizedBatches() {
+        var longJob = buildJob(1, START.plusHours(1), "9");
+        var job2 = buildJob(2, START.plusHours(2), "3");
+        var job3 = buildJob(3, START.plusHours(2), "3");
+        var greedy = List.of(List.of(longJob), List.of(job2), List.of(job3));
+
+        var optimized = new BatchOptimizer(MAX_DURATION, Duration.ofSeconds(1)).optimize(greedy);
+
+        assertEquals(List.of(List.of(longJob), List.of(job2, job3)), optimized);
+    }
+
+    @Test
+    @DisplayName("Deve retornar dentro do tempo limite em um agrupamento grande")
+    void shouldReturnWithinBudget() {
+        var generator = WorkloadGenerator.builder()
+            .seed(42L)
+            .jobCount(200_000)
+            .deadlineSkew(WorkloadGenerator.DeadlineSkew.PEAKED)
+            .build();
+        var start = generator.getBase();
+        var greedy = FilterJobs.createFilter(generator.generate(), 8)
+            .separatedJobs(start, start.plus(generator.getHorizon()));
+        var budget = Duration.ofMillis(100);
+
+        var begin = System.nanoTime();
+        var optimized = new BatchOptimizer(MAX_DURATION, budget).optimize(greedy);
+        var elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        assertThat(elapsed, lessThan(budget.plusMillis(400)));
+        assertThat(optimized.size(), lessThanOrEqualTo(greedy.size()));
+        assertDeadlineOrder(optimized);
+    }
+
+    private void assertDeadlineOrder(List<List<Job>> batches) {
+        var sequence = batches.stream().flatMap(List::stream).collect(Collectors.toList());
+        assertEquals(sequence.stream()
+                .sorted(Comparator.comparing(Job::getDateMaxCompleteProcess))
+                .collect(Collectors.toList()),
+            sequence);
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - BatchPublisher")
+class BatchPublisherTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 20, 23, 59);
+
+    @Test
+    @DisplayName("Deve publicar as mesmas listas de execução do separatedJobs")
+    void shouldPublishSeparatedJobs() throws Exception {
+        var filterJobs = FilterJobs.createFilter(jobs(2_000), 8);
+        var received = new ArrayList<List<Job>>();
+        var completed = new CompletableFuture<Void>();
+
+        filterJobs.publishSeparatedJobs(START, END).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(List<Job> item) {
+                received.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        completed.get(10, TimeUnit.SECONDS);
+        assertEquals(filterJobs.separatedJobs(START, END), received);
+    }
+
+    @Test
+    @DisplayName("Deve processar apenas as listas de execução solicitadas")
+    void shouldHonorDemand() {
+        var produced = new AtomicInteger();
+        var publisher = new BatchPublisher(() -> Stream.generate(() -> List.<Job>of())
+            .peek(batch -> produced.incrementAndGet()), Runnable::run);
+        var subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+        assertEquals(0, produced.get());
+        subscriber.subscription.request(3);
+        assertEquals(3, produced.get());
+        subscriber.subscription.request(2);
+
+        assertEquals(5, produced.get());
+        assertEquals(5, subscriber.items.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Deve interromper o processamento e fechar o Stream ao cancelar")
+    void shouldStopWhenCancelled() {
+        var closed = new AtomicBoolean();
+        var publisher = new BatchPublisher(() -> Stream.generate(() -> List.<Job>of())
+            .onClose(() -> closed.set(true)), Runnable::run);
+        var subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(2);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertEquals(2, subscriber.items.size());
+        assertTrue(closed.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar erro para solicitação inválida e falha no processamento")
+    void shouldSignalErrors() {
+        var subscriber = new RecordingSubscriber();
+        new BatchPublisher(() -> Stream.of(List.<Job>of()), Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        var failing = new RecordingSubscriber();
+        new BatchPublisher(() -> Stream.<List<Job>>of(List.of()).peek(batch -> {
+            throw new IllegalStateException("falha");
+        }), Runnable::run).subscribe(failing);
+        failing.subscription.request(1);
+
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+        assertThat(failing.error, instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    @DisplayName("Deve completar quando não existem mais listas de execução")
+    void shouldComplete() {
+        var subscriber = new RecordingSubscriber();
+        new BatchPublisher(() -> Stream.of(List.<Job>of(), List.<Job>of()), Runnable::run)
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(2, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    private List<Job> jobs(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> Job.builder()
+                .id(id)
+                .description("Description")
+                .dateMaxCompleteProcess(START.plusMinutes(id * 37L % (10 * 24 * 60)))
+                .estimatedTimeEnd(String.format("%d:%02d", id % 8, id % 60))
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<List<Job>> {
+
+        private final List<List<Job>> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(List<Job> item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
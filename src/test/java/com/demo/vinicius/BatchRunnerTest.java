@@ -0,0 +1,200 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - BatchRunner")
+class BatchRunnerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 12, 23, 59);
+
+    @Test
+    @DisplayName("Deve executar os jobs de cada lista em sequência")
+    void shouldRunBatchJobsInSequence() {
+        var jobs = IntStream.range(0, 6)
+            .mapToObj(id -> buildJob(id, START.plusHours(id + 1), "4"))
+            .collect(Collectors.toList());
+        var batches = FilterJobs.createFilter(jobs, 8).separatedJobs(START, END);
+        var executed = new ConcurrentHashMap<String, List<Integer>>();
+        var runner = new BatchRunner(
+            job -> executed.computeIfAbsent(Thread.currentThread().getName(),
+                name -> new CopyOnWriteArrayList<>()).add(job.getId()),
+            Duration.ofSeconds(5), 2);
+
+        var run = runner.run(batches);
+
+        assertEquals(3, run.getBatches().size());
+        assertEquals(6, run.count(JobExecutionStatus.COMPLETED));
+        assertThat(ids(run.getBatches().get(0)), contains(0, 1));
+        assertThat(ids(run.getBatches().get(2)), contains(4, 5));
+        for (var batch : run.getBatches()) {
+            assertFalse(batch.isTimedOut());
+            var first = batch.getJobs().get(0);
+            var second = batch.getJobs().get(1);
+            assertThat(second.getOffset(), greaterThanOrEqualTo(first.getElapsed()));
+        }
+        assertTrue(executed.keySet().stream().allMatch(name -> name.startsWith("job-")));
+    }
+
+    @Test
+    @DisplayName("Deve executar as listas em paralelo respeitando o limite de listas simultâneas")
+    void shouldBoundConcurrentBatches() {
+        var batches = IntStream.range(0, 20)
+            .mapToObj(id -> List.of(buildJob(id, START.plusHours(1), "1")))
+            .collect(Collectors.toList());
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        // Os jobs só avançam quando quatro listas estão em execução ao mesmo tempo
+        var barrier = new CyclicBarrier(4);
+        var runner = new BatchRunner(job -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            barrier.await(10, TimeUnit.SECONDS);
+            running.decrementAndGet();
+        }, Duration.ofSeconds(30), 4);
+
+        var run = runner.run(batches);
+
+        assertEquals(20, run.count(JobExecutionStatus.COMPLETED));
+        assertEquals(4, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Deve interromper as listas em execução quando a execução é interrompida")
+    void shouldStopBatchesWhenInterrupted() throws Exception {
+        var batches = IntStream.range(0, 5)
+            .mapToObj(id -> List.of(buildJob(id, START.plusHours(1), "1")))
+            .collect(Collectors.toList());
+        var started = new CountDownLatch(1);
+        var runner = new BatchRunner(job -> {
+            started.countDown();
+            Thread.sleep(60_000);
+        }, Duration.ofMinutes(5), 1);
+        var failure = new AtomicReference<Throwable>();
+        var caller = new Thread(() -> {
+            try {
+                runner.run(batches);
+            } catch (IllegalStateException exception) {
+                failure.set(exception);
+            }
+        });
+
+        caller.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertFalse(caller.isAlive());
+        assertThat(failure.get(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    @DisplayName("Deve interromper o job que esgota o tempo da lista e ignorar os seguintes")
+    void shouldTimeoutBatch() {
+        var batch = List.of(buildJob(1, START.plusHours(1), "1"),
+            buildJob(2, START.plusHours(2), "1"), buildJob(3, START.plusHours(3), "1"));
+        var interrupted = new AtomicInteger();
+        var runner = new BatchRunner(job -> {
+            if (job.getId() == 2) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException exception) {
+                    interrupted.incrementAndGet();
+                    throw exception;
+                }
+            }
+        }, Duration.ofMillis(200), 1);
+
+        var run = runner.run(List.of(batch));
+
+        var execution = run.getBatches().get(0);
+        assertTrue(execution.isTimedOut());
+        assertThat(execution.getJobs().stream().map(JobExecution::getStatus)
+                .collect(Collectors.toList()),
+            contains(JobExecutionStatus.COMPLETED, JobExecutionStatus.TIMED_OUT,
+                JobExecutionStatus.SKIPPED));
+        assertThat(execution.getElapsed(), lessThan(Duration.ofSeconds(5)));
+        assertEquals(Duration.ZERO, execution.getJobs().get(2).getElapsed());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha do job e continuar a lista")
+    void shouldRecordFailure() {
+        var batch = List.of(buildJob(1, START.plusHours(1), "1"),
+            buildJob(2, START.plusHours(2), "1"));
+        var runner = new BatchRunner(job -> {
+            if (job.getId() == 1) {
+                throw new IllegalStateException("Falha");
+            }
+        }, Duration.ofSeconds(5), 1);
+
+        var jobs = runner.run(List.of(batch)).getBatches().get(0).getJobs();
+
+        assertEquals(JobExecutionStatus.FAILED, jobs.get(0).getStatus());
+        assertThat(jobs.get(0).getError(), instanceOf(IllegalStateException.class));
+        assertEquals(JobExecutionStatus.COMPLETED, jobs.get(1).getStatus());
+        assertNull(jobs.get(1).getError());
+    }
+
+    @Test
+    @DisplayName("Deve executar milhares de listas sem pool de threads dimensionado")
+    void shouldRunThousandsOfBatches() {
+        var batches = IntStream.range(0, 5_000)
+            .mapToObj(id -> List.of(buildJob(id, START.plusHours(1), "1")))
+            .collect(Collectors.toList());
+        var runner = new BatchRunner(job -> Thread.sleep(50), Duration.ofSeconds(30), 5_000);
+
+        var run = runner.run(batches);
+
+        assertEquals(5_000, run.count(JobExecutionStatus.COMPLETED));
+        assertThat(run.getElapsed(), lessThan(Duration.ofSeconds(20)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception quando a configuração é inválida")
+    void shouldThrowsExceptionWhenInvalidConfiguration() {
+        Map<Duration, Integer> invalid = Map.of(Duration.ZERO, 1, Duration.ofHours(8), 0);
+
+        invalid.forEach((duration, concurrency) -> assertThrows(IllegalArgumentException.class,
+            () -> new BatchRunner(job -> { }, duration, concurrency)));
+    }
+
+    private List<Integer> ids(BatchExecution batch) {
+        return batch.getJobs().stream()
+            .map(execution -> execution.getJob().getId())
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
@@ -1,16 +1,21 @@
 package com.demo.vinicius;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -35,20 +40,20 @@ class CollectorJobsTest {
 
         var accumulator = collector.accumulator();
 
-        var map = new HashMap<Integer, List<Job>>();
+        var container = collector.supplier().get();
 
-        accumulator.accept(map, jobs01);
-        accumulator.accept(map, jobs02);
-        accumulator.accept(map, jobs03);
-        accumulator.accept(map, jobs04);
-        accumulator.accept(map, jobs05);
-        accumulator.accept(map, jobs06);
-        accumulator.accept(map, jobs07);
-        accumulator.accept(map, jobs08);
-        accumulator.accept(map, jobs09);
-        accumulator.accept(map, jobs10);
+        accumulator.accept(container, jobs01);
+        accumulator.accept(container, jobs02);
+        accumulator.accept(container, jobs03);
+        accumulator.accept(container, jobs04);
+        accumulator.accept(container, jobs05);
+        accumulator.accept(container, jobs06);
+        accumulator.accept(container, jobs07);
+        accumulator.accept(container, jobs08);
+        accumulator.accept(container, jobs09);
+        accumulator.accept(container, jobs10);
 
-        assertThat(map, aMapWithSize(6));
+        assertThat(collector.finisher().apply(container), aMapWithSize(6));
     }
 
     @Test
@@ -57,16 +62,18 @@ class CollectorJobsTest {
         var jobs01 = buildJobs(1, "Description", "0:59");
         var jobs02 = buildJobs(2, "Description", "0:01");
 
-        var listJobs = List.of(jobs01, jobs02);
         var collector = new CollectorJobs(Duration.ofHours(8));
 
-        var map = new HashMap<Integer, List<Job>>();
-        var concatMap = Map.of(0, listJobs);
+        var left = collector.supplier().get();
+        var right = collector.supplier().get();
+        collector.accumulator().accept(left, jobs01);
+        collector.accumulator().accept(right, jobs02);
 
-        var combiner = collector.combiner();
-        combiner.apply(map, concatMap);
+        var combined = collector.combiner().apply(left, right);
+        var map = collector.finisher().apply(combined);
 
         assertThat(map, aMapWithSize(1));
+        assertThat(map.get(0), contains(jobs01, jobs02));
     }
 
     @Test
@@ -74,32 +81,105 @@ class CollectorJobsTest {
     void shouldReturnMapOrderLessThen() {
         var jobs01 = buildJobs(1, "Description", "7:59");
         var jobs02 = buildJobs(2, "Description", "0:01");
-        var jobs03 = buildJobs(3, "Description", "0:01");
-        var jobs04 = buildJobs(4, "Description", "8:00");
-        var jobs05 = buildJobs(5, "Description", "7:59:59");
-        var jobs06 = buildJobs(6, "Description", "00:00:01");
+        var jobs03 = buildJobs(3, "Description", "8:00");
+        var jobs04 = buildJobs(4, "Description", "7:59:59");
+        var jobs05 = buildJobs(5, "Description", "00:00:01");
+        var jobs06 = buildJobs(6, "Description", "0:01");
 
-        var listJobs01 = List.of(jobs01, jobs02);
-        var listJobs02 = List.of(jobs04);
-        var listJobs03 = List.of(jobs05, jobs06);
-        var listJobs04 = List.of(jobs03);
+        var collector = new CollectorJobs(Duration.ofHours(8));
+
+        var mapJobFinisher = List.of(jobs01, jobs02, jobs03, jobs04, jobs05, jobs06).stream()
+            .collect(collector);
+
+        assertThat(mapJobFinisher.keySet(), contains(0, 1, 2, 3));
+        assertEquals(mapJobFinisher.get(0), List.of(jobs01, jobs02));
+        assertEquals(mapJobFinisher.get(1), List.of(jobs03));
+        assertEquals(mapJobFinisher.get(2), List.of(jobs04, jobs05));
+        assertEquals(mapJobFinisher.get(3), List.of(jobs06));
+    }
 
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado da execução sequencial ao combinar contêineres em qualquer ponto")
+    void shouldCombineEqualsSequential() {
+        var jobs = randomJobs(200, 42);
         var collector = new CollectorJobs(Duration.ofHours(8));
 
-        var mapJobsResult = Map.of(
-            1, listJobs02,
-            3, listJobs04,
-            2, listJobs03,
-            0, listJobs01
-        );
+        var expected = jobs.stream().collect(collector);
+
+        for (var split = 0; split <= jobs.size(); split++) {
+            var left = collector.supplier().get();
+            var right = collector.supplier().get();
+            jobs.subList(0, split).forEach(job -> collector.accumulator().accept(left, job));
+            jobs.subList(split, jobs.size())
+                .forEach(job -> collector.accumulator().accept(right, job));
+
+            var combined = collector.combiner().apply(left, right);
+
+            assertEquals(expected, collector.finisher().apply(combined));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado da execução sequencial com stream paralelo")
+    void shouldCollectParallelEqualsSequential() {
+        var jobs = randomJobs(100_000, 7);
 
-        var finisher = collector.finisher();
-        var mapJobFinisher = finisher.apply(mapJobsResult);
+        var sequential = jobs.stream().collect(new CollectorJobs(Duration.ofHours(8)));
+        var parallel = jobs.parallelStream().collect(new CollectorJobs(Duration.ofHours(8)));
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Deve retornar as mesmas listas de execução do map sem o map intermediário")
+    void shouldCollectBatchesEqualsMap() {
+        var jobs = randomJobs(10_000, 3);
+
+        var map = jobs.stream().collect(new CollectorJobs(Duration.ofHours(8)));
+        var batches = jobs.stream().collect(CollectorJobs.toBatches(Duration.ofHours(8)));
+        var parallel = jobs.parallelStream().collect(CollectorJobs.toBatches(Duration.ofHours(8)));
+
+        assertEquals(new ArrayList<>(map.values()), batches);
+        assertEquals(batches, parallel);
+    }
+
+    @Test
+    @DisplayName("Deve acumular os jobs sem alocação além do crescimento das listas")
+    void shouldAccumulateWithoutAllocation() {
+        var jobs = randomJobs(200_000, 5);
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var collector = CollectorJobs.toBatches(Duration.ofHours(8));
+        for (var warmUp = 0; warmUp < 5; warmUp++) {
+            jobs.stream().collect(collector);
+        }
+
+        var before = threads.getCurrentThreadAllocatedBytes();
+        var batches = jobs.stream().collect(collector);
+        var allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Mesmas listas montadas job a job, com o mesmo crescimento das listas do collector
+        before = threads.getCurrentThreadAllocatedBytes();
+        var copy = new ArrayList<List<Job>>();
+        for (var batch : batches) {
+            var list = new ArrayList<Job>();
+            for (var job : batch) {
+                list.add(job);
+            }
+            copy.add(list);
+        }
+        var growth = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(batches, copy);
+        var perJob = (double) (allocated - growth) / jobs.size();
+        assertThat(perJob, lessThan(1.0));
+    }
 
-        assertEquals(mapJobFinisher.get(0), listJobs01);
-        assertEquals(mapJobFinisher.get(1), listJobs02);
-        assertEquals(mapJobFinisher.get(2), listJobs03);
-        assertEquals(mapJobFinisher.get(3), listJobs04);
+    private List<Job> randomJobs(int size, long seed) {
+        var random = new Random(seed);
+        return IntStream.range(0, size)
+            .mapToObj(id -> buildJobs(id, "Description %s",
+                String.format("%d:%02d", random.nextInt(9), random.nextInt(60))))
+            .collect(Collectors.toCollection(ArrayList::new));
     }
 
     private Job buildJobs(int id, String description, String estimatedTimeEnd) {
@@ -0,0 +1,157 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Teste - Unidade - ColumnarJobStore")
+class ColumnarJobStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 16, 23, 59);
+
+    @Test
+    @DisplayName("Deve ordenar as linhas pela data máxima de conclusão mantendo a ordem original")
+    void shouldSortRowsByDeadline() {
+        var store = ColumnarJobStore.builder()
+            .add(1, "Noite", START.plusHours(20), "1")
+            .add(2, "Manhã", START.plusHours(9), "2:30")
+            .add(3, "Noite", START.plusHours(20), "1:15:20:5")
+            .add(null, null, START.plusHours(9).plusNanos(1), "8")
+            .build();
+
+        assertEquals(4, store.size());
+        assertThat(IntStream.range(0, store.size()).mapToObj(store::get).map(Job::getId)
+            .collect(Collectors.toList()), contains(2, null, 1, 3));
+        var job = store.get(3);
+        assertEquals("Noite", job.getDescription());
+        assertEquals(START.plusHours(20), job.getDateMaxCompleteProcess());
+        assertEquals("1:15:20:5", job.getEstimatedTimeEnd());
+        assertEquals("Manhã", store.get(0).getDescription());
+        assertNull(store.get(1).getDescription());
+        assertEquals(4L * 37 + "NoiteManhãNoite".getBytes(StandardCharsets.UTF_8).length,
+            store.getOffHeapBytes());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PackingStrategy.class)
+    @DisplayName("Deve retornar as mesmas listas de execução do índice de objetos")
+    void shouldMatchObjectIndex(PackingStrategy strategy) {
+        var jobs = jobs(2_000);
+        var store = ColumnarJobStore.of(jobs);
+
+        var expected = FilterJobs.createFilter(jobs, 8, strategy).separatedJobs(START, END);
+        var actual = FilterJobs.createFilter(store, 8, strategy).separatedJobs(START, END);
+
+        assertEquals(ids(expected), ids(actual));
+    }
+
+    @Test
+    @DisplayName("Deve retornar as mesmas listas de execução em modo paralelo e sob demanda")
+    void shouldMatchParallelAndLazy() {
+        var store = ColumnarJobStore.of(jobs(5_000).stream());
+        var filterJobs = FilterJobs.createFilter(store, 8);
+        var start = START.plusDays(1);
+        var end = START.plusDays(3).plusNanos(1);
+
+        var expected = ids(filterJobs.separatedJobs(start, end));
+
+        assertEquals(expected, ids(filterJobs.parallel().separatedJobs(start, end)));
+        assertEquals(expected,
+            ids(filterJobs.streamSeparatedJobs(start, end).collect(Collectors.toList())));
+    }
+
+    @Test
+    @DisplayName("Deve posicionar os jobs adicionados após os existentes com a mesma data")
+    void shouldMergeAddedJobs() {
+        var jobs = jobs(100);
+        var filterJobs = FilterJobs.createFilter(ColumnarJobStore.of(jobs), 8);
+        var objects = FilterJobs.createFilter(jobs, 8);
+        var added = List.of(buildJob(1_000, START.plusMinutes(7), "1"),
+            buildJob(1_001, START.plusHours(2), "3"));
+
+        filterJobs.addJobs(added);
+        objects.addJobs(added);
+
+        assertEquals(ids(objects.separatedJobs(START, END)),
+            ids(filterJobs.separatedJobs(START, END)));
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas o último job de cada identificação como o índice de objetos")
+    void shouldDeduplicateLikeObjectIndex() {
+        var jobs = new ArrayList<>(jobs(500));
+        IntStream.range(0, 200)
+            .mapToObj(id -> buildJob(id * 2, START.plusMinutes(id * 37L % 10_000), "3:30"))
+            .forEach(jobs::add);
+        var store = ColumnarJobStore.of(jobs);
+
+        var expected = FilterJobs.createFilter(jobs, 8).separatedJobs(START, END);
+        var actual = FilterJobs.createFilter(store, 8).separatedJobs(START, END);
+
+        assertEquals(500, store.size());
+        assertEquals(ids(expected), ids(actual));
+    }
+
+    @Test
+    @DisplayName("Deve substituir os jobs existentes com a mesma identificação na inclusão")
+    void shouldReplaceJobsOnMerge() {
+        var jobs = jobs(100);
+        var filterJobs = FilterJobs.createFilter(ColumnarJobStore.of(jobs), 8);
+        var objects = FilterJobs.createFilter(jobs, 8);
+        var added = List.of(buildJob(3, START.plusMinutes(7), "1"),
+            buildJob(5, START.plusHours(2), "3"), buildJob(3, START.plusHours(1), "2"));
+
+        filterJobs.addJobs(added);
+        objects.addJobs(added);
+
+        var expected = objects.separatedJobs(START, END);
+        assertEquals(ids(expected), ids(filterJobs.separatedJobs(START, END)));
+        assertEquals(100, expected.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception quando o job é inválido")
+    void shouldThrowsExceptionWhenInvalidJob() {
+        var builder = ColumnarJobStore.builder();
+
+        assertThrows(RuntimeException.class, () -> builder.add(1, "Job", START, "25:00"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1, "Job", null, "1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.build().get(0));
+    }
+
+    private List<Job> jobs(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> buildJob(id, START.plusMinutes((id * 7919L) % 10_000),
+                String.format("%d:%02d", id % 8, id % 60)))
+            .collect(Collectors.toList());
+    }
+
+    private List<List<Integer>> ids(List<List<Job>> batches) {
+        return batches.stream()
+            .map(batch -> batch.stream().map(Job::getId).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Job " + id % 13)
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
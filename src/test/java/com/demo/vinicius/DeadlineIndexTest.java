@@ -0,0 +1,88 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - DeadlineIndex")
+class DeadlineIndexTest {
+
+    private static final LocalDateTime NINE_O_CLOCK = LocalDateTime.of(2020, 10, 10, 9, 0);
+    private static final LocalDateTime NOON = LocalDateTime.of(2020, 10, 10, 12, 0);
+    private static final LocalDateTime SIX_PM = LocalDateTime.of(2020, 10, 10, 18, 0);
+
+    @Test
+    @DisplayName("Deve incluir os jobs com data igual ao início e ao fim do range")
+    void shouldIncludeBoundaries() {
+        var job1 = buildJob(1, SIX_PM);
+        var job2 = buildJob(2, NINE_O_CLOCK);
+        var job3 = buildJob(3, NOON);
+
+        var index = DeadlineIndex.of(List.of(job1, job2, job3));
+
+        assertThat(index.range(NINE_O_CLOCK, NOON).collect(Collectors.toList()),
+            contains(job2, job3));
+        assertThat(index.range(NOON, SIX_PM).collect(Collectors.toList()),
+            contains(job3, job1));
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem original entre jobs com a mesma data")
+    void shouldKeepOrderBetweenSameDate() {
+        var job1 = buildJob(1, NOON);
+        var job2 = buildJob(2, NINE_O_CLOCK);
+        var job3 = buildJob(3, NOON);
+        var job4 = buildJob(4, NOON);
+
+        var index = DeadlineIndex.of(List.of(job1, job2, job3, job4));
+
+        assertThat(index.range(NINE_O_CLOCK, SIX_PM).collect(Collectors.toList()),
+            contains(job2, job1, job3, job4));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando não existem jobs no range")
+    void shouldReturnEmptyOutsideRange() {
+        var index = DeadlineIndex.of(List.of(buildJob(1, NOON)));
+
+        assertThat(index.range(SIX_PM, SIX_PM.plusDays(1)).collect(Collectors.toList()), empty());
+        assertThat(index.range(NINE_O_CLOCK.minusDays(1), NINE_O_CLOCK)
+            .collect(Collectors.toList()), empty());
+        assertThat(DeadlineIndex.of(Collections.emptyList()).range(NINE_O_CLOCK, SIX_PM)
+            .collect(Collectors.toList()), empty());
+    }
+
+    @Test
+    @DisplayName("Deve exigir reordenação apenas quando a data de um job do índice é alterada")
+    void shouldBeStaleOnlyWhenOwnDeadlineChanges() {
+        var job1 = buildJob(1, NOON);
+        var other = buildJob(2, NOON);
+        var index = DeadlineIndex.of(List.of(job1));
+
+        other.setDateMaxCompleteProcess(SIX_PM);
+        job1.setEstimatedTimeEnd("2");
+        assertFalse(index.isStale());
+
+        job1.setDateMaxCompleteProcess(SIX_PM);
+        assertTrue(index.isStale());
+        assertFalse(index.refresh().isStale());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd("1")
+            .build();
+    }
+}
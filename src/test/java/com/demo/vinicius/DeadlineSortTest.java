@@ -0,0 +1,93 @@
+package com.demo.vinicius;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - DeadlineSort")
+class DeadlineSortTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final Comparator<Job> BY_DEADLINE =
+        Comparator.comparing(Job::getDateMaxCompleteProcess);
+
+    @Test
+    @DisplayName("Deve ordenar como o comparator mantendo a ordem entre datas iguais")
+    void shouldSortLikeStableComparator() {
+        var jobs = jobs(20_000, 3_000, new Random(42)).toArray(Job[]::new);
+        var expected = jobs.clone();
+        Arrays.sort(expected, BY_DEADLINE);
+
+        assertTrue(DeadlineSort.sort(jobs));
+        assertArrayEquals(expected, jobs);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem quando os jobs já estão ordenados")
+    void shouldKeepSortedJobs() {
+        var jobs = IntStream.range(0, DeadlineSort.RADIX_THRESHOLD)
+            .mapToObj(id -> buildJob(id, START.plusSeconds(id / 3)))
+            .toArray(Job[]::new);
+        var expected = jobs.clone();
+
+        assertTrue(DeadlineSort.sort(jobs));
+        assertArrayEquals(expected, jobs);
+    }
+
+    @Test
+    @DisplayName("Deve utilizar o comparator para poucos jobs ou intervalos maiores que um long")
+    void shouldFallbackToComparator() {
+        var few = jobs(DeadlineSort.RADIX_THRESHOLD - 1, 100, new Random(1)).toArray(Job[]::new);
+        var wide = jobs(DeadlineSort.RADIX_THRESHOLD, 100, new Random(2)).toArray(Job[]::new);
+        wide[0].setDateMaxCompleteProcess(START.plusYears(300));
+        var expected = wide.clone();
+
+        assertFalse(DeadlineSort.sort(few));
+        assertFalse(DeadlineSort.sort(wide));
+        assertArrayEquals(expected, wide);
+        assertNull(DeadlineSort.keys(new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, new int[2]));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar o índice e o armazenamento colunar com o mesmo resultado")
+    void shouldSortIndexAndStoreEqually() {
+        var jobs = jobs(10_000, 500, new Random(7));
+        var expected = jobs.stream().sorted(BY_DEADLINE).map(Job::getId)
+            .collect(Collectors.toList());
+        var end = START.plusDays(1);
+
+        var index = DeadlineIndex.of(jobs).range(START, end);
+        var store = ColumnarJobStore.of(jobs).index().range(START, end);
+
+        assertEquals(expected, index.map(Job::getId).collect(Collectors.toList()));
+        assertEquals(expected, store.map(Job::getId).collect(Collectors.toList()));
+    }
+
+    private List<Job> jobs(int count, int distinctSeconds, Random random) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> buildJob(id, START.plusSeconds(random.nextInt(distinctSeconds))
+                .withNano(random.nextInt(3) * 250_000_000)))
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd("1")
+            .build();
+    }
+}
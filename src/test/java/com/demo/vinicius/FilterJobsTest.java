@@ -6,7 +6,9 @@ import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -14,13 +16,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 @DisplayName("Teste - Unidade - FilterJobs")
@@ -131,6 +137,143 @@ class FilterJobsTest {
         assertThat(resultList, contains(allIds));
     }
 
+    @Test
+    @DisplayName("Deve retornar a mesma matrix de jobs em modo paralelo")
+    void shouldReturnSameJobsWhenParallel() {
+        var filterJobs = FilterJobs.createFilter(getJobs(), 8);
+        var start = LocalDateTime.of(dateEightDay, LocalTime.MIDNIGHT);
+        var end = LocalDateTime.of(dateElevenDay, twentyThreeAndFiftyNine);
+
+        assertEquals(filterJobs.separatedJobs(start, end),
+            filterJobs.parallel().separatedJobs(start, end));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a mesma matrix de jobs em modo particionado")
+    void shouldReturnSameJobsWhenPartitioned() {
+        var start = LocalDateTime.of(dateEightDay, LocalTime.MIDNIGHT);
+        var end = start.plusDays(20);
+        var jobs = IntStream.range(0, 5_000)
+            .mapToObj(id -> Job.builder()
+                .id(id)
+                .description("Description")
+                .dateMaxCompleteProcess(start.plusMinutes(id * 30L % (20 * 24 * 60)))
+                .estimatedTimeEnd(String.format("%d:%02d", id % 5, id % 60))
+                .build())
+            .collect(Collectors.toList());
+        var filterJobs = FilterJobs.createFilter(jobs, 8);
+        var expected = filterJobs.separatedJobs(start, end);
+
+        assertEquals(expected,
+            filterJobs.partitioned(WindowPartitioner.daily()).separatedJobs(start, end));
+        assertEquals(expected, filterJobs
+            .partitioned(WindowPartitioner.shifts(LocalTime.of(6, 0), LocalTime.of(14, 0),
+                LocalTime.of(22, 0)))
+            .separatedJobs(start, end));
+        assertEquals(expected, filterJobs.partitioned(WindowPartitioner.every(Duration.ofHours(1)))
+            .separatedJobs(start, end));
+        assertEquals(filterJobs.separatedJobs(start.plusHours(5), end.minusHours(3)),
+            filterJobs.partitioned(WindowPartitioner.daily())
+                .separatedJobs(start.plusHours(5), end.minusHours(3)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WorkloadGenerator.DeadlineSkew.class)
+    @DisplayName("Deve manter a duração máxima e o resultado sequencial em massas geradas")
+    void shouldKeepLimitsOnGeneratedWorkload(WorkloadGenerator.DeadlineSkew skew) {
+        var generator = WorkloadGenerator.builder()
+            .seed(11L)
+            .jobCount(50_000)
+            .deadlineSkew(skew)
+            .build();
+        var filterJobs = FilterJobs.createFilter(generator.generate(), 8);
+        var start = generator.getBase().plusDays(3);
+        var end = start.plusDays(7);
+
+        var batches = filterJobs.separatedJobs(start, end);
+
+        assertEquals(batches, filterJobs.parallel().separatedJobs(start, end));
+        for (var batch : batches) {
+            assertTrue(batch.stream().mapToLong(Job::getEstimatedTimeNanos).sum()
+                <= Duration.ofHours(8).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agendar apenas o último job reenviado com a mesma identificação")
+    void shouldDeduplicateResentJobs() {
+        var start = LocalDateTime.of(dateTenDay, LocalTime.MIDNIGHT);
+        var end = LocalDateTime.of(dateTenDay, twentyThreeAndFiftyNine);
+        var job1 = buildJob(1, start.plusHours(1), "2");
+        var job2 = buildJob(2, start.plusHours(2), "2");
+        var job1Resent = buildJob(1, start.plusHours(3), "3");
+        var job2Resent = buildJob(2, start.plusHours(4), "4");
+        var filterJobs = FilterJobs.createFilter(List.of(job1, job2, job1Resent), 8);
+
+        assertEquals(List.of(List.of(job2, job1Resent)), filterJobs.separatedJobs(start, end));
+        filterJobs.addJobs(List.of(job2Resent));
+        assertEquals(List.of(List.of(job1Resent, job2Resent)),
+            filterJobs.separatedJobs(start, end));
+    }
+
+    @Test
+    @DisplayName("Deve emitir sob demanda as mesmas listas de execução")
+    void shouldStreamSameJobs() {
+        var filterJobs = FilterJobs.createFilter(getJobs(), 8);
+        var start = LocalDateTime.of(dateEightDay, LocalTime.MIDNIGHT);
+        var end = LocalDateTime.of(dateElevenDay, twentyThreeAndFiftyNine);
+
+        try (var stream = filterJobs.streamSeparatedJobs(start, end)) {
+            assertEquals(filterJobs.separatedJobs(start, end),
+                stream.collect(Collectors.toList()));
+        }
+
+        var bestFit = FilterJobs.createFilter(getJobs(), 8, PackingStrategy.BEST_FIT);
+        assertEquals(bestFit.separatedJobs(start, end),
+            bestFit.streamSeparatedJobs(start, end).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Deve consumir apenas os jobs necessários para as primeiras listas de execução")
+    void shouldStreamLazily() {
+        var filterJobs = FilterJobs.createFilter(getJobs(), 8);
+        var start = LocalDateTime.of(dateEightDay, LocalTime.MIDNIGHT);
+        var end = LocalDateTime.of(dateElevenDay, twentyThreeAndFiftyNine);
+        var jobs = filterJobs.getStreamSeparateByRange(start, end).spliterator();
+        var consumed = new ArrayList<Job>();
+        var spliterator = new NextFitSpliterator(new Spliterators.AbstractSpliterator<Job>(
+            jobs.estimateSize(), jobs.characteristics()) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Job> action) {
+                return jobs.tryAdvance(job -> {
+                    consumed.add(job);
+                    action.accept(job);
+                });
+            }
+        }, Duration.ofHours(8).toNanos());
+
+        var first = StreamSupport.stream(spliterator, false).findFirst().orElseThrow();
+
+        assertThat(first, contains(hasProperty(ID_PROPERTY_NAME, is(15))));
+        assertEquals(2, consumed.size());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir a quantidade de listas de execução utilizando first fit")
+    void shouldReduceBatchesWithFirstFit() {
+        var start = LocalDateTime.of(dateEightDay, LocalTime.MIDNIGHT);
+        var end = LocalDateTime.of(dateElevenDay, twentyThreeAndFiftyNine);
+
+        var nextFit = FilterJobs.createFilter(getJobs(), 8).report(start, end);
+        var firstFit = FilterJobs.createFilter(getJobs(), 8, PackingStrategy.FIRST_FIT)
+            .report(start, end);
+
+        assertEquals(27, firstFit.getJobCount());
+        assertEquals(nextFit.getTotalDuration(), firstFit.getTotalDuration());
+        assertTrue(firstFit.getBatchCount() < nextFit.getBatchCount());
+        assertTrue(firstFit.getFillRatio() > nextFit.getFillRatio());
+    }
+
     private List<Job> getJobs() {
         var list = new ArrayList<Job>();
 
@@ -179,6 +322,15 @@ class FilterJobsTest {
             ).collect(Collectors.toList());
     }
 
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description(String.format("Job #%s", id))
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+
     private static Stream<Arguments> providerRangeInvalid() {
         return Stream.of(
             Arguments.of(
@@ -0,0 +1,197 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - IncrementalPlanner")
+class IncrementalPlannerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 20, 23, 59);
+
+    @Test
+    @DisplayName("Deve iniciar com as mesmas listas de execução do separatedJobs")
+    void shouldStartWithSeparatedJobs() {
+        var filterJobs = FilterJobs.createFilter(jobs(300), 8);
+
+        var planner = filterJobs.planner(START, END);
+
+        assertEquals(filterJobs.separatedJobs(START, END), planner.batches());
+    }
+
+    @Test
+    @DisplayName("Deve reagrupar apenas as listas afetadas pela inclusão")
+    void shouldRepackAffectedBatches() {
+        var job1 = buildJob(1, START.plusHours(1), "4");
+        var job2 = buildJob(2, START.plusHours(2), "4");
+        var job3 = buildJob(3, START.plusHours(3), "6");
+        var job4 = buildJob(4, START.plusHours(4), "8");
+        var planner = FilterJobs.createFilter(List.of(job1, job2, job3, job4), 8)
+            .planner(START, END);
+        var added = buildJob(5, START.plusHours(2).plusMinutes(30), "2");
+
+        var diff = planner.insert(added);
+
+        assertEquals(List.of(job1, job2), diff.getPrevious());
+        assertEquals(List.of(List.of(job3)), diff.getRemoved());
+        assertEquals(List.of(List.of(added, job3)), diff.getAdded());
+        assertThat(planner.batches(), contains(List.of(job1, job2), List.of(added, job3),
+            List.of(job4)));
+    }
+
+    @Test
+    @DisplayName("Deve permitir que a lista anterior absorva jobs após a remoção")
+    void shouldMergeIntoPreviousBatchAfterRemove() {
+        var job1 = buildJob(1, START.plusHours(1), "4");
+        var job2 = buildJob(2, START.plusHours(2), "6");
+        var job3 = buildJob(3, START.plusHours(3), "4");
+        var planner = FilterJobs.createFilter(List.of(job1, job2, job3), 8).planner(START, END);
+
+        var diff = planner.remove(job2);
+
+        assertEquals(List.of(List.of(job1), List.of(job2), List.of(job3)), diff.getRemoved());
+        assertEquals(List.of(List.of(job1, job3)), diff.getAdded());
+        assertTrue(planner.remove(job2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter o resultado igual ao recálculo completo após alterações aleatórias")
+    void shouldMatchFullRecalculation() {
+        var random = new Random(42);
+        var jobs = new ArrayList<>(jobs(400));
+        var usedMinutes = jobs.stream()
+            .map(job -> (int) Duration.between(START, job.getDateMaxCompleteProcess())
+                .toMinutes())
+            .collect(Collectors.toCollection(HashSet::new));
+        var planner = FilterJobs.createFilter(jobs, 8).planner(START, END);
+        var batches = new ArrayList<>(planner.batches());
+        var nextId = 1_000;
+
+        for (var step = 0; step < 1_000; step++) {
+            PlanDiff diff;
+            var operation = random.nextInt(3);
+            if (operation == 0 || jobs.isEmpty()) {
+                var job = buildJob(nextId++, START.plusMinutes(unusedMinute(random, usedMinutes)),
+                    random.nextInt(8) + ":" + (10 + random.nextInt(50)));
+                jobs.add(job);
+                diff = planner.insert(job);
+            } else if (operation == 1) {
+                var job = jobs.remove(random.nextInt(jobs.size()));
+                diff = planner.remove(job);
+            } else {
+                var job = jobs.get(random.nextInt(jobs.size()));
+                if (random.nextBoolean()) {
+                    job.setDateMaxCompleteProcess(
+                        START.plusMinutes(unusedMinute(random, usedMinutes)));
+                } else {
+                    job.setEstimatedTimeEnd(random.nextInt(8) + ":" + (10 + random.nextInt(50)));
+                }
+                diff = planner.update(job);
+            }
+
+            apply(batches, diff);
+            assertEquals(planner.batches(), batches);
+            assertEquals(FilterJobs.createFilter(jobs, 8).separatedJobs(START, END), batches);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve alterar uma quantidade constante de listas em janelas grandes")
+    void shouldChangeFewBatchesInLargeWindow() {
+        var jobs = jobs(5_000);
+        var planner = FilterJobs.createFilter(jobs, 8).planner(START, END.plusYears(1));
+        var job = jobs.get(2_500);
+
+        job.setEstimatedTimeEnd("1:01");
+        var diff = planner.update(job);
+
+        assertThat(diff.getRemoved().size(), lessThanOrEqualTo(4));
+        assertThat(diff.getAdded().size(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("Deve localizar o job alterado pela identificação")
+    void shouldUpdateById() {
+        var job1 = buildJob(1, START.plusHours(1), "4");
+        var job2 = buildJob(2, START.plusHours(2), "4");
+        var planner = FilterJobs.createFilter(List.of(job1, job2), 8).planner(START, END);
+        var resent = buildJob(1, START.plusHours(3), "6");
+
+        planner.update(resent);
+
+        assertEquals(List.of(List.of(job2), List.of(resent)), planner.batches());
+        assertThrows(IllegalArgumentException.class,
+            () -> planner.insert(buildJob(2, START.plusHours(4), "1")));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar jobs fora da janela e removê-los quando saem da janela")
+    void shouldHandleWindowBoundaries() {
+        var job1 = buildJob(1, START.plusHours(1), "4");
+        var planner = FilterJobs.createFilter(List.of(job1), 8).planner(START, END);
+
+        assertTrue(planner.insert(buildJob(2, END.plusDays(1), "4")).isEmpty());
+        job1.setDateMaxCompleteProcess(END.plusDays(1));
+        var diff = planner.update(job1);
+
+        assertEquals(List.of(List.of(job1)), diff.getRemoved());
+        assertTrue(planner.batches().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception para estratégias diferentes de next fit")
+    void shouldThrowsExceptionWhenStrategyIsNotNextFit() {
+        var filterJobs = FilterJobs.createFilter(jobs(10), 8, PackingStrategy.BEST_FIT);
+
+        assertThrows(IllegalStateException.class, () -> filterJobs.planner(START, END));
+    }
+
+    private void apply(List<List<Job>> batches, PlanDiff diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
+        var index = diff.getPrevious() == null ? 0 : batches.indexOf(diff.getPrevious()) + 1;
+        batches.subList(index, index + diff.getRemoved().size()).clear();
+        batches.addAll(index, diff.getAdded());
+    }
+
+    private int unusedMinute(Random random, HashSet<Integer> usedMinutes) {
+        while (true) {
+            var minute = random.nextInt(11 * 24 * 60);
+            if (usedMinutes.add(minute)) {
+                return minute;
+            }
+        }
+    }
+
+    private List<Job> jobs(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> buildJob(id, START.plusMinutes(id * 37L % (11 * 24 * 60)),
+                String.format("%d:%02d", id % 8, 10 + id % 50)))
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Teste - Unidade - JobFileLoader")
+class JobFileLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve ler jobs de arquivo CSV com cabeçalho e descrição entre aspas")
+    void shouldReadCsv() throws IOException {
+        var file = write("jobs.csv",
+            "id,description,dateMaxCompleteProcess,estimatedTimeEnd\r\n"
+                + "1,Importação de arquivos,2020-10-10T12:00,2:30\r\n"
+                + "2,\"Leitura, \"\"remessa\"\"\",2020-10-11T23:59:59.5,6:15:43\r\n"
+                + "\n"
+                + "3,Base legada,2020-10-09T23:59:59,4");
+
+        var jobs = read(file);
+
+        assertEquals(3, jobs.size());
+        assertJob(jobs.get(0), 1, "Importação de arquivos",
+            LocalDateTime.of(2020, 10, 10, 12, 0), "2:30:00:00");
+        assertJob(jobs.get(1), 2, "Leitura, \"remessa\"",
+            LocalDateTime.of(2020, 10, 11, 23, 59, 59, 500_000_000), "6:15:43:00");
+        assertJob(jobs.get(2), 3, "Base legada",
+            LocalDateTime.of(2020, 10, 9, 23, 59, 59), "4:00:00:00");
+        assertEquals(Duration.ofHours(4).toNanos(), jobs.get(2).getEstimatedTimeNanos());
+    }
+
+    @Test
+    @DisplayName("Deve ler jobs de arquivo NDJSON ignorando chaves desconhecidas")
+    void shouldReadNdjson() throws IOException {
+        var file = write("jobs.ndjson",
+            "{\"id\": 1, \"description\": \"Fundos \\\"A\\\" \\u00e9\", "
+                + "\"dateMaxCompleteProcess\": \"2020-10-10T12:00:00\", \"estimatedTimeEnd\": \"8\"}\n"
+                + "{\"tags\": [\"a\", {\"b\": 1}], \"estimatedTimeEnd\": \"0:30\", \"id\": 2, "
+                + "\"dateMaxCompleteProcess\": \"2020-10-10T13:00\", \"description\": null}\n");
+
+        var jobs = read(file);
+
+        assertEquals(2, jobs.size());
+        assertJob(jobs.get(0), 1, "Fundos \"A\" é", LocalDateTime.of(2020, 10, 10, 12, 0),
+            "8:00:00:00");
+        assertJob(jobs.get(1), 2, null, LocalDateTime.of(2020, 10, 10, 13, 0), "0:30:00:00");
+        assertNull(jobs.get(1).getDescription());
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os jobs dentro do range de datas inclusivo")
+    void shouldFilterByRange() throws IOException {
+        var file = write("jobs.csv",
+            "1,Antes,2020-10-09T23:59:59,1\n"
+                + "2,Início,2020-10-10T00:00,1\n"
+                + "3,Meio,2020-10-10T12:00,1\n"
+                + "4,Fim,2020-10-10T23:59:59,1\n"
+                + "5,Depois,2020-10-11T00:00,1\n");
+
+        try (var stream = JobFileLoader.stream(file, LocalDateTime.of(2020, 10, 10, 0, 0),
+            LocalDateTime.of(2020, 10, 10, 23, 59, 59))) {
+            assertThat(stream.map(Job::getId).collect(Collectors.toList()), contains(2, 3, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler registros que atravessam o limite entre regiões mapeadas")
+    void shouldReadAcrossRegions() throws IOException {
+        var content = IntStream.range(0, 500)
+            .mapToObj(id -> String.format("%d,Job %d,2020-10-10T%02d:%02d,%d:%02d", id, id,
+                id % 24, id % 60, id % 8, id % 60))
+            .collect(Collectors.joining("\n"));
+        var file = write("jobs.csv", content);
+
+        try (var stream = JobFileLoader.stream(file, JobFileFormat.CSV, null, null, 64)) {
+            var jobs = stream.collect(Collectors.toList());
+
+            assertEquals(500, jobs.size());
+            for (var id = 0; id < 500; id++) {
+                assertEquals(id, jobs.get(id).getId());
+                assertEquals("Job " + id, jobs.get(id).getDescription());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve alimentar o FilterJobs com o mesmo resultado da lista em memória")
+    void shouldFeedFilterJobs() throws IOException {
+        var content = IntStream.range(0, 200)
+            .mapToObj(id -> String.format("%d,Job %d,2020-10-%02dT%02d:00,%d:%02d", id, id,
+                10 + id % 3, id % 24, id % 8, id % 60))
+            .collect(Collectors.joining("\n"));
+        var file = write("jobs.csv", content);
+        var start = LocalDateTime.of(2020, 10, 10, 0, 0);
+        var end = LocalDateTime.of(2020, 10, 11, 23, 59);
+
+        List<List<Job>> fromFile;
+        try (var stream = JobFileLoader.stream(file, start, end)) {
+            fromFile = FilterJobs.createFilter(stream, 8).separatedJobs(start, end);
+        }
+        var fromList = FilterJobs.createFilter(read(file), 8).separatedJobs(start, end);
+
+        assertEquals(ids(fromList), ids(fromFile));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception informando a linha inválida")
+    void shouldThrowsExceptionWithLine() throws IOException {
+        var file = write("jobs.csv",
+            "1,Válido,2020-10-10T12:00,1\n"
+                + "2,Inválido,2020-10-10T12:00,25:00\n");
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> read(file));
+
+        assertEquals("Linha 2 inválida: Data formato inválido", exception.getMessage());
+    }
+
+    private List<List<Integer>> ids(List<List<Job>> batches) {
+        return batches.stream()
+            .map(batch -> batch.stream().map(Job::getId).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    private List<Job> read(Path file) {
+        try (var stream = JobFileLoader.stream(file)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertJob(Job job, int id, String description,
+        LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        assertEquals(id, job.getId());
+        assertEquals(description, job.getDescription());
+        assertEquals(dateMaxCompleteProcess, job.getDateMaxCompleteProcess());
+        assertEquals(estimatedTimeEnd, job.getEstimatedTimeEnd());
+    }
+}
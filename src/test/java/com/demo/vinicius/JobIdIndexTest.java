@@ -0,0 +1,94 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - JobIdIndex")
+class JobIdIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2020, 10, 10, 12, 0);
+
+    @Test
+    @DisplayName("Deve incluir, substituir e remover jobs pela identificação")
+    void shouldPutGetAndRemove() {
+        var index = new JobIdIndex();
+        var job = buildJob(1, "Description");
+        var updated = buildJob(1, "Updated");
+
+        assertNull(index.put(job));
+        assertSame(job, index.put(updated));
+        assertSame(updated, index.get(1));
+        assertEquals(1, index.size());
+        assertSame(updated, index.remove(1));
+        assertNull(index.remove(1));
+        assertFalse(index.contains(1));
+        assertThrows(IllegalArgumentException.class, () -> index.put(buildJob(null, "Sem id")));
+    }
+
+    @Test
+    @DisplayName("Deve manter o mesmo conteúdo de um HashMap após operações aleatórias")
+    void shouldMatchHashMap() {
+        var random = new Random(42);
+        var index = new JobIdIndex();
+        var expected = new HashMap<Integer, Job>();
+
+        for (var step = 0; step < 200_000; step++) {
+            // Identificações múltiplas de 1024 colidem na mesma posição inicial
+            var id = random.nextBoolean() ? random.nextInt(5_000) : random.nextInt(64) * 1_024;
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), index.remove(id));
+            } else {
+                var job = buildJob(id, "Description");
+                assertSame(expected.put(id, job), index.put(job));
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        expected.forEach((id, job) -> assertSame(job, index.get(id)));
+        var count = new int[1];
+        index.forEach(job -> {
+            assertSame(expected.get(job.getId()), job);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+        assertTrue(index.contains(expected.keySet().iterator().next()));
+    }
+
+    @Test
+    @DisplayName("Deve manter o último job de cada identificação na posição do primeiro")
+    void shouldDeduplicateWithLastWriteWins() {
+        var job1 = buildJob(1, "Job 1");
+        var job2 = buildJob(2, "Job 2");
+        var job1Resent = buildJob(1, "Job 1 reenviado");
+        var withoutId = buildJob(null, "Sem id");
+        var job3 = buildJob(3, "Job 3");
+        var jobs = List.of(job1, job2, withoutId, job1Resent, job3);
+        var unique = List.of(job1, job2, withoutId);
+
+        assertThat(JobIdIndex.deduplicate(jobs), contains(job1Resent, job2, withoutId, job3));
+        assertSame(unique, JobIdIndex.deduplicate(unique));
+        assertEquals(2, JobIdIndex.of(List.of(job1, job2, job1Resent)).size());
+    }
+
+    private Job buildJob(Integer id, String description) {
+        return Job.builder()
+            .id(id)
+            .description(description)
+            .dateMaxCompleteProcess(NOON)
+            .estimatedTimeEnd("1")
+            .build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - JobRegistry")
+class JobRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 10, 23, 59);
+
+    @Test
+    @DisplayName("Deve incluir, atualizar e remover jobs pela identificação")
+    void shouldAddUpdateAndRemove() {
+        var registry = new JobRegistry();
+
+        registry.add(buildJob(1, START.plusHours(1), "2"));
+        registry.add(buildJob(2, START.plusHours(2), "3"));
+        registry.update(buildJob(1, START.plusHours(5), "4"));
+
+        assertEquals(2, registry.size());
+        assertEquals(START.plusHours(5), registry.get(1).orElseThrow().getDateMaxCompleteProcess());
+        assertTrue(registry.remove(2));
+        assertFalse(registry.remove(2));
+        assertTrue(registry.get(2).isEmpty());
+        assertEquals(1, registry.size());
+        assertEquals(4, registry.version());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception para inclusão duplicada e atualização de job inexistente")
+    void shouldThrowsExceptionWhenInvalidWrite() {
+        var registry = new JobRegistry();
+        registry.add(buildJob(1, START, "1"));
+
+        var duplicated = assertThrows(IllegalArgumentException.class,
+            () -> registry.add(buildJob(1, START, "1")));
+        var missing = assertThrows(IllegalArgumentException.class,
+            () -> registry.update(buildJob(2, START, "1")));
+
+        assertEquals("Job já registrado: 1", duplicated.getMessage());
+        assertEquals("Job não registrado: 2", missing.getMessage());
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.add(Job.restore(null, "Sem id", START, "1:00:00:00", 0L)));
+        assertEquals(1, registry.version());
+    }
+
+    @Test
+    @DisplayName("Deve manter o snapshot inalterado após escritas no registro")
+    void shouldIsolateSnapshot() {
+        var registry = new JobRegistry();
+        var job = buildJob(1, START.plusHours(1), "2");
+        registry.add(job);
+        registry.add(buildJob(2, START.plusHours(2), "2"));
+
+        var snapshot = registry.snapshot();
+        registry.update(buildJob(1, START.plusHours(3), "2"));
+        registry.remove(2);
+        registry.add(buildJob(3, START.plusHours(4), "2"));
+        job.setDateMaxCompleteProcess(START.plusHours(20));
+
+        assertThat(ids(snapshot.getJobs()), contains(1, 2));
+        assertEquals(START.plusHours(1), snapshot.getJobs().get(0).getDateMaxCompleteProcess());
+        var current = registry.snapshot();
+        assertThat(ids(current.getJobs()), contains(1, 3));
+        assertEquals(START.plusHours(3), current.getJobs().get(0).getDateMaxCompleteProcess());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a versão do snapshot enquanto não houver escritas")
+    void shouldReuseSnapshotVersion() {
+        var registry = new JobRegistry();
+        registry.add(buildJob(1, START, "1"));
+
+        var snapshot = registry.snapshot();
+
+        assertEquals(snapshot.getVersion(), registry.snapshot().getVersion());
+        registry.update(buildJob(1, START, "2"));
+        var current = registry.snapshot();
+        assertTrue(current.getVersion() > snapshot.getVersion());
+        assertEquals("2:00:00:00", current.getJobs().get(0).getEstimatedTimeEnd());
+    }
+
+    @Test
+    @DisplayName("Deve entregar jobs próprios a cada snapshot")
+    void shouldNotShareJobsBetweenSnapshots() {
+        var registry = new JobRegistry();
+        registry.add(buildJob(1, START, "1"));
+
+        var snapshot = registry.snapshot();
+        var other = registry.snapshot();
+        snapshot.getJobs().get(0).setDateMaxCompleteProcess(END);
+        snapshot.getJobs().get(0).setEstimatedTimeEnd("5");
+
+        assertNotSame(snapshot.getJobs().get(0), other.getJobs().get(0));
+        assertEquals(START, other.getJobs().get(0).getDateMaxCompleteProcess());
+        assertEquals("1:00:00:00", other.getJobs().get(0).getEstimatedTimeEnd());
+        assertEquals(START, registry.snapshot().getJobs().get(0).getDateMaxCompleteProcess());
+    }
+
+    @Test
+    @DisplayName("Deve separar as listas de execução a partir do snapshot")
+    void shouldFilterSnapshot() {
+        var registry = new JobRegistry();
+        registry.add(buildJob(1, START.plusHours(3), "4"));
+        registry.add(buildJob(2, START.plusHours(1), "6"));
+        registry.add(buildJob(3, START.plusHours(2), "2"));
+
+        var batches = registry.snapshot().filter(8).separatedJobs(START, END);
+
+        assertEquals(List.of(List.of(2, 3), List.of(1)),
+            batches.stream().map(this::ids).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar snapshots consistentes durante escritas concorrentes")
+    void shouldReturnConsistentSnapshotsWhileWriting() throws Exception {
+        var registry = new JobRegistry();
+        var count = 20_000;
+        for (var id = count; id < 2 * count; id++) {
+            registry.add(buildJob(id, START, "1"));
+        }
+        var snapshots = new CopyOnWriteArrayList<RegistrySnapshot>();
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var adder = CompletableFuture.runAsync(() -> {
+                for (var id = 0; id < count; id++) {
+                    registry.add(buildJob(id, START, "1"));
+                }
+            }, executor);
+            var remover = CompletableFuture.runAsync(() -> {
+                for (var id = count; id < 2 * count; id++) {
+                    registry.remove(id);
+                }
+            }, executor);
+            var readers = new ArrayList<CompletableFuture<Void>>();
+            for (var reader = 0; reader < 2; reader++) {
+                readers.add(CompletableFuture.runAsync(() -> {
+                    while (!adder.isDone() || !remover.isDone()) {
+                        snapshots.add(registry.snapshot());
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(adder, remover).join();
+            readers.forEach(CompletableFuture::join);
+        }
+
+        assertFalse(snapshots.isEmpty());
+        for (var snapshot : snapshots) {
+            var ids = snapshot.getJobs().stream().map(Job::getId).sorted()
+                .collect(Collectors.toList());
+            var added = (int) ids.stream().filter(id -> id < count).count();
+            var remaining = ids.size() - added;
+            for (var index = 0; index < added; index++) {
+                assertEquals(index, ids.get(index));
+            }
+            for (var index = 0; index < remaining; index++) {
+                assertEquals(2 * count - remaining + index, ids.get(added + index));
+            }
+        }
+        assertEquals(count, registry.size());
+        assertEquals(count, registry.snapshot().getJobs().size());
+    }
+
+    @Test
+    @DisplayName("Deve descartar versões anteriores e remoções ao término dos snapshots")
+    void shouldDiscardRetainedVersionsAfterSnapshots() throws Exception {
+        var registry = new JobRegistry();
+        var count = 20_000;
+        for (var id = 0; id < count; id++) {
+            registry.add(buildJob(id, START, "1"));
+        }
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var writer = CompletableFuture.runAsync(() -> {
+                for (var id = 0; id < count; id++) {
+                    if (id % 2 == 0) {
+                        registry.remove(id);
+                    } else {
+                        registry.update(buildJob(id, END, "2"));
+                    }
+                }
+            }, executor);
+            var reader = CompletableFuture.runAsync(() -> {
+                while (!writer.isDone()) {
+                    registry.snapshot();
+                }
+            }, executor);
+            CompletableFuture.allOf(writer, reader).join();
+        }
+        registry.add(buildJob(count, START, "1"));
+        registry.snapshot();
+
+        assertEquals(count / 2 + 1, registry.size());
+        assertEquals(registry.size(), registry.retainedVersions());
+    }
+
+    private List<Integer> ids(List<Job> jobs) {
+        return jobs.stream().map(Job::getId).collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.vinicius;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Teste - Unidade - JobSnapshot")
+class JobSnapshotTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 12, 23, 59);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve restaurar os jobs gravados no snapshot")
+    void shouldRestoreJobs() {
+        var jobs = List.of(
+            buildJob(1, "Importação de arquivos", START.plusHours(12).plusNanos(500_000_000),
+                "2:30"),
+            buildJob(2, null, START.minusYears(60), "6:15:43:10"),
+            Job.restore(null, "Sem data", null, null, 0L));
+        var file = directory.resolve("jobs.snapshot");
+
+        JobSnapshot.write(file, jobs);
+        var snapshot = JobSnapshot.read(file);
+
+        assertEquals(3, snapshot.getJobs().size());
+        assertTrue(snapshot.getBatches().isEmpty());
+        for (var index = 0; index < jobs.size(); index++) {
+            assertJob(jobs.get(index), snapshot.getJobs().get(index));
+        }
+        assertNull(snapshot.getJobs().get(2).getId());
+    }
+
+    @Test
+    @DisplayName("Deve restaurar as listas de execução referenciando os jobs restaurados")
+    void shouldRestoreBatches() {
+        var jobs = jobs(100);
+        var filterJobs = FilterJobs.createFilter(jobs, 8);
+        var batches = filterJobs.separatedJobs(START, END);
+        var file = directory.resolve("jobs.snapshot");
+
+        JobSnapshot.write(file, jobs, batches);
+        var snapshot = JobSnapshot.read(file);
+
+        assertEquals(ids(batches), ids(snapshot.getBatches()));
+        var restored = snapshot.getJobs().get(snapshot.getBatches().get(0).get(0).getId());
+        assertSame(restored, snapshot.getBatches().get(0).get(0));
+        assertEquals(ids(batches),
+            ids(FilterJobs.createFilter(snapshot.getJobs(), 8).separatedJobs(START, END)));
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada descrição e tempo estimado uma única vez")
+    void shouldDeduplicateStrings() throws IOException {
+        var jobs = IntStream.range(0, 1_000)
+            .mapToObj(id -> buildJob(id, "Leitura de arquivo remessa", START.plusMinutes(id), "4"))
+            .collect(Collectors.toList());
+        var file = directory.resolve("jobs.snapshot");
+
+        JobSnapshot.write(file, jobs);
+
+        var header = 8 + 4 + 4 + "Leitura de arquivo remessa".length() + 4
+            + "4:00:00:00".length() + 4;
+        assertEquals(header + 1_000 * 33 + 4, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Deve ler registros que atravessam o limite entre regiões mapeadas")
+    void shouldReadAcrossRegions() {
+        var jobs = jobs(500);
+        var batches = FilterJobs.createFilter(jobs, 8).separatedJobs(START, END);
+        var file = directory.resolve("jobs.snapshot");
+
+        JobSnapshot.write(file, jobs, batches);
+        var snapshot = JobSnapshot.read(file, 64);
+
+        for (var index = 0; index < jobs.size(); index++) {
+            assertJob(jobs.get(index), snapshot.getJobs().get(index));
+        }
+        assertEquals(ids(batches), ids(snapshot.getBatches()));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exception quando o arquivo não é um snapshot suportado")
+    void shouldThrowsExceptionWhenInvalidSnapshot() throws IOException {
+        var text = Files.write(directory.resolve("jobs.csv"),
+            "1,Job,2020-10-10T12:00,1\n".getBytes(StandardCharsets.UTF_8));
+        var file = directory.resolve("jobs.snapshot");
+        JobSnapshot.write(file, jobs(10));
+        var bytes = Files.readAllBytes(file);
+        bytes[5] = 2;
+        var newer = Files.write(directory.resolve("newer.snapshot"), bytes);
+        var truncated = Files.write(directory.resolve("truncated.snapshot"),
+            Arrays.copyOf(Files.readAllBytes(file), 100));
+
+        assertThrows(IllegalArgumentException.class, () -> JobSnapshot.read(text));
+        var exception = assertThrows(IllegalArgumentException.class,
+            () -> JobSnapshot.read(newer));
+        assertEquals("Versão do snapshot não suportada: 2", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> JobSnapshot.read(truncated));
+    }
+
+    private List<Job> jobs(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(id -> buildJob(id, "Job " + id % 7, START.plusMinutes(id * 7L),
+                String.format("%d:%02d", id % 8, id % 60)))
+            .collect(Collectors.toList());
+    }
+
+    private List<List<Integer>> ids(List<List<Job>> batches) {
+        return batches.stream()
+            .map(batch -> batch.stream().map(Job::getId).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    private void assertJob(Job expected, Job actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getDateMaxCompleteProcess(), actual.getDateMaxCompleteProcess());
+        assertEquals(expected.getEstimatedTimeEnd(), actual.getEstimatedTimeEnd());
+        assertEquals(expected.getEstimatedTimeNanos(), actual.getEstimatedTimeNanos());
+    }
+
+    private Job buildJob(int id, String description, LocalDateTime dateMaxCompleteProcess,
+        String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description(description)
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
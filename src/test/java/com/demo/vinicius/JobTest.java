@@ -2,10 +2,14 @@ package com.demo.vinicius;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("Teste - Unidade - Job")
@@ -31,7 +35,8 @@ class JobTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"8:00:00:00:00", "text"})
+    @ValueSource(strings = {"8:00:00:00:00", "text", "", "100", "24:00", "8:60", "8:5", "8:00:0",
+        "8:00:00:", "8:00:00:100", "8:00-00", "a:00"})
     @DisplayName("Deve lançar exception quando data passada por argumento inválido")
     void shouldThrowsException(String value) {
         assertThrows(RuntimeException.class, () -> Job.builder()
@@ -41,4 +46,46 @@ class JobTest {
             .estimatedTimeEnd(value)
             .build());
     }
+
+    @ParameterizedTest
+    @MethodSource("providerEstimatedTime")
+    @DisplayName("Deve converter tempo estimado em nanossegundos")
+    void shouldHaveEstimatedTimeNanos(String value, Duration expected) {
+        var job = Job.builder()
+            .id(0)
+            .description("Description")
+            .dateMaxCompleteProcess(LocalDateTime.now())
+            .estimatedTimeEnd(value)
+            .build();
+
+        assertEquals(expected.toNanos(), job.getEstimatedTimeNanos());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar nanossegundos ao alterar tempo estimado")
+    void shouldUpdateEstimatedTimeNanos() {
+        var job = Job.builder()
+            .id(0)
+            .description("Description")
+            .dateMaxCompleteProcess(LocalDateTime.now())
+            .estimatedTimeEnd("1")
+            .build();
+
+        job.setEstimatedTimeEnd("0:30");
+
+        assertEquals("0:30:00:00", job.getEstimatedTimeEnd());
+        assertEquals(Duration.ofMinutes(30).toNanos(), job.getEstimatedTimeNanos());
+    }
+
+    private static Stream<Arguments> providerEstimatedTime() {
+        return Stream.of(
+            Arguments.of("8", Duration.ofHours(8)),
+            Arguments.of("12", Duration.ofHours(12)),
+            Arguments.of("2:30", Duration.ofHours(2).plusMinutes(30)),
+            Arguments.of("23:59", Duration.ofHours(23).plusMinutes(59)),
+            Arguments.of("6:15:43", Duration.ofHours(6).plusMinutes(15).plusSeconds(43)),
+            Arguments.of("7:59:59:9", Duration.ofHours(7).plusMinutes(59).plusSeconds(59).plusMillis(9)),
+            Arguments.of("00:00:00:99", Duration.ofMillis(99))
+        );
+    }
 }
@@ -0,0 +1,137 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Teste - Unidade - PackingStrategy")
+class PackingStrategyTest {
+
+    private static final long EIGHT_HOURS = Duration.ofHours(8).toNanos();
+    private static final LocalDateTime NOON = LocalDateTime.of(2020, 10, 10, 12, 0);
+
+    @Test
+    @DisplayName("Deve revisitar listas anteriores utilizando first fit")
+    void shouldReuseEarlierBatchesWithFirstFit() {
+        var job1 = buildJob(1, NOON, "5");
+        var job2 = buildJob(2, NOON.plusHours(1), "5");
+        var job3 = buildJob(3, NOON.plusHours(2), "3");
+        var job4 = buildJob(4, NOON.plusHours(3), "3");
+        var jobs = List.of(job1, job2, job3, job4);
+
+        assertEquals(3, PackingStrategy.NEXT_FIT.pack(jobs, EIGHT_HOURS).size());
+        assertThat(PackingStrategy.FIRST_FIT.pack(jobs, EIGHT_HOURS),
+            contains(List.of(job1, job3), List.of(job2, job4)));
+    }
+
+    @Test
+    @DisplayName("Deve escolher a lista com menor capacidade restante utilizando best fit")
+    void shouldChooseTightestBatchWithBestFit() {
+        var job1 = buildJob(1, NOON, "4");
+        var job2 = buildJob(2, NOON.plusHours(1), "5");
+        var job3 = buildJob(3, NOON.plusHours(2), "3");
+        var job4 = buildJob(4, NOON.plusHours(3), "4");
+        var jobs = List.of(job1, job2, job3, job4);
+
+        assertEquals(3, PackingStrategy.FIRST_FIT.pack(jobs, EIGHT_HOURS).size());
+        assertThat(PackingStrategy.BEST_FIT.pack(jobs, EIGHT_HOURS),
+            contains(List.of(job1, job4), List.of(job2, job3)));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar jobs com a mesma data da maior para a menor duração")
+    void shouldSortDecreasingWithinSameDeadline() {
+        var job1 = buildJob(1, NOON, "2");
+        var job2 = buildJob(2, NOON, "6");
+        var job3 = buildJob(3, NOON.plusHours(1), "7");
+        var job4 = buildJob(4, NOON.plusHours(1), "1");
+        var jobs = List.of(job1, job2, job3, job4);
+
+        assertThat(PackingStrategy.FIRST_FIT_DECREASING.pack(jobs, EIGHT_HOURS),
+            contains(List.of(job2, job1), List.of(job3, job4)));
+        assertThat(PackingStrategy.BEST_FIT_DECREASING.pack(jobs, EIGHT_HOURS),
+            contains(List.of(job2, job1), List.of(job3, job4)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PackingStrategy.class)
+    @DisplayName("Deve manter todos os jobs, respeitar a duração máxima e a ordem de data em cada lista")
+    void shouldRespectLimitAndDeadlineOrder(PackingStrategy strategy) {
+        var jobs = randomJobs(5_000, 11);
+
+        var batches = strategy.pack(jobs, EIGHT_HOURS);
+
+        var flatten = batches.stream().flatMap(Collection::stream).collect(Collectors.toList());
+        assertThat(flatten, containsInAnyOrder(jobs.toArray()));
+
+        for (var batch : batches) {
+            var total = batch.stream().mapToLong(Job::getEstimatedTimeNanos).sum();
+            assertThat(total, lessThanOrEqualTo(EIGHT_HOURS));
+
+            var sorted = new ArrayList<>(batch);
+            sorted.sort(Comparator.comparing(Job::getDateMaxCompleteProcess));
+            assertEquals(sorted, batch);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PackingStrategy.class, names = "NEXT_FIT", mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("Deve produzir no máximo a quantidade de listas do next fit")
+    void shouldNotProduceMoreBatchesThanNextFit(PackingStrategy strategy) {
+        var jobs = randomJobs(5_000, 13);
+
+        var nextFit = PackingStrategy.NEXT_FIT.pack(jobs, EIGHT_HOURS);
+
+        assertThat(strategy.pack(jobs, EIGHT_HOURS).size(), lessThanOrEqualTo(nextFit.size()));
+    }
+
+    @Test
+    @DisplayName("Deve calcular a quantidade de listas e o preenchimento")
+    void shouldReportFillRatio() {
+        var jobs = List.of(
+            buildJob(1, NOON, "6"),
+            buildJob(2, NOON, "4"),
+            buildJob(3, NOON, "2"));
+
+        var report = PackingReport.of(PackingStrategy.FIRST_FIT,
+            PackingStrategy.FIRST_FIT.pack(jobs, EIGHT_HOURS), Duration.ofHours(8));
+
+        assertEquals(2, report.getBatchCount());
+        assertEquals(3, report.getJobCount());
+        assertEquals(Duration.ofHours(12), report.getTotalDuration());
+        assertEquals(0.75D, report.getFillRatio());
+    }
+
+    private List<Job> randomJobs(int size, long seed) {
+        var random = new Random(seed);
+        return IntStream.range(0, size)
+            .mapToObj(id -> buildJob(id, NOON.plusMinutes(id / 10),
+                String.format("%d:%02d", random.nextInt(8), random.nextInt(60))))
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
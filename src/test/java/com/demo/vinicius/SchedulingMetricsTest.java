@@ -0,0 +1,144 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Teste - Unidade - SchedulingMetrics")
+class SchedulingMetricsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 10, 23, 59);
+
+    private final SchedulingMetrics metrics = SchedulingMetrics.global();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        metrics.reset();
+    }
+
+    @Test
+    @DisplayName("Deve acumular jobs processados, listas produzidas e preenchimento médio")
+    void shouldRecordBatches() {
+        var filterJobs = FilterJobs.createFilter(jobs(), 8);
+
+        filterJobs.separatedJobs(START, END);
+
+        assertEquals(3, metrics.getJobsProcessed());
+        assertEquals(2, metrics.getBatchesProduced());
+        assertEquals(0.75D, metrics.getAverageFill());
+        assertEquals(1, metrics.getPhaseCount(PlanningPhase.RANGE));
+        assertEquals(1, metrics.getPhaseCount(PlanningPhase.COLLECT));
+        assertEquals(0, metrics.getPhaseCount(PlanningPhase.FINISH));
+        assertEquals(0, metrics.getPhaseCount(PlanningPhase.PACK));
+    }
+
+    @Test
+    @DisplayName("Deve medir a etapa de agrupamento das demais estratégias")
+    void shouldRecordPackPhase() {
+        var filterJobs = FilterJobs.createFilter(jobs(), 8, PackingStrategy.BEST_FIT);
+
+        filterJobs.separatedJobs(START, END);
+
+        assertEquals(1, metrics.getPhaseCount(PlanningPhase.PACK));
+        assertEquals(3, metrics.getJobsProcessed());
+        assertEquals(2, metrics.getBatchesProduced());
+    }
+
+    @Test
+    @DisplayName("Deve registrar as listas do agrupamento particionado sem o range completo")
+    void shouldRecordPartitionedBatches() {
+        var filterJobs = FilterJobs.createFilter(jobs(), 8)
+            .partitioned(WindowPartitioner.every(Duration.ofHours(1)));
+
+        filterJobs.separatedJobs(START, END);
+
+        assertEquals(3, metrics.getJobsProcessed());
+        assertEquals(2, metrics.getBatchesProduced());
+        assertEquals(0.75D, metrics.getAverageFill());
+        assertEquals(0, metrics.getPhaseCount(PlanningPhase.RANGE));
+        assertEquals(1, metrics.getPhaseCount(PlanningPhase.COLLECT));
+    }
+
+    @Test
+    @DisplayName("Deve contar os tempos estimados em formato inválido")
+    void shouldRecordParseFailures() {
+        assertThrows(RuntimeException.class, () -> buildJob(1, START, "25:00"));
+        assertThrows(RuntimeException.class, () -> jobs().get(0).setEstimatedTimeEnd("text"));
+
+        assertEquals(2, metrics.getParseFailures());
+    }
+
+    @Test
+    @DisplayName("Deve publicar eventos do JDK Flight Recorder")
+    void shouldCommitFlightRecorderEvents() throws IOException {
+        var file = directory.resolve("scheduling.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.demo.vinicius.SeparatedJobs");
+            recording.enable("com.demo.vinicius.PlanningPhase");
+            recording.enable("com.demo.vinicius.JobParseFailure");
+            recording.start();
+
+            FilterJobs.createFilter(jobs(), 8).separatedJobs(START, END);
+            assertThrows(RuntimeException.class, () -> buildJob(1, START, "text"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        var names = events.stream()
+            .map(event -> event.getEventType().getName())
+            .collect(Collectors.toList());
+        assertThat(names, hasItems("com.demo.vinicius.SeparatedJobs",
+            "com.demo.vinicius.PlanningPhase", "com.demo.vinicius.JobParseFailure"));
+
+        var separated = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.demo.vinicius.SeparatedJobs"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(3, separated.getInt("jobs"));
+        assertEquals(2, separated.getInt("batches"));
+        assertEquals("NEXT_FIT", separated.getString("strategy"));
+
+        var phases = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.demo.vinicius.PlanningPhase"))
+            .map(event -> event.getString("phase"))
+            .collect(Collectors.toList());
+        assertThat(phases, hasItems("RANGE", "COLLECT"));
+    }
+
+    private List<Job> jobs() {
+        return List.of(
+            buildJob(1, START.plusHours(1), "6"),
+            buildJob(2, START.plusHours(2), "4"),
+            buildJob(3, START.plusHours(3), "2"));
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - SeparatedJobsCache")
+class SeparatedJobsCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 10, 23, 59);
+
+    @Test
+    @DisplayName("Deve retornar o resultado em cache para a mesma janela de execução")
+    void shouldReturnCachedResult() {
+        var cache = new SeparatedJobsCache(4);
+        var filterJobs = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+
+        var first = filterJobs.separatedJobs(START, END);
+        var second = filterJobs.separatedJobs(START, END);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertThrows(UnsupportedOperationException.class, () -> first.get(0).clear());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a janela utilizada há mais tempo ao atingir o limite")
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new SeparatedJobsCache(2);
+        var filterJobs = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+
+        filterJobs.separatedJobs(START, END);
+        filterJobs.separatedJobs(START.plusHours(1), END);
+        filterJobs.separatedJobs(START, END);
+        filterJobs.separatedJobs(START.plusHours(2), END);
+        filterJobs.separatedJobs(START, END);
+        filterJobs.separatedJobs(START.plusHours(1), END);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictions());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular quando a data máxima de conclusão de um job é alterada")
+    void shouldInvalidateWhenDeadlineChanges() {
+        var jobs = jobs();
+        var cache = new SeparatedJobsCache(4);
+        var filterJobs = FilterJobs.createFilter(jobs, 8).withCache(cache);
+
+        var before = filterJobs.separatedJobs(START, END);
+        jobs.get(0).setDateMaxCompleteProcess(START.plusHours(20));
+        var after = filterJobs.separatedJobs(START, END);
+
+        assertNotSame(before, after);
+        assertEquals(2, cache.getMisses());
+        assertThat(ids(after), contains(2, 3, 4, 1));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular quando o tempo estimado de um job é alterado")
+    void shouldInvalidateWhenEstimatedTimeChanges() {
+        var jobs = jobs();
+        var cache = new SeparatedJobsCache(4);
+        var filterJobs = FilterJobs.createFilter(jobs, 8).withCache(cache);
+
+        assertEquals(2, filterJobs.separatedJobs(START, END).size());
+        jobs.get(1).setEstimatedTimeEnd("1");
+
+        assertEquals(1, filterJobs.separatedJobs(START, END).size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Deve manter o resultado em cache quando jobs de outro filtro são alterados")
+    void shouldKeepResultWhenOtherJobsChange() {
+        var cache = new SeparatedJobsCache(4);
+        var filterJobs = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+        var other = jobs();
+
+        var before = filterJobs.separatedJobs(START, END);
+        other.get(0).setDateMaxCompleteProcess(START.plusHours(20));
+        other.get(1).setEstimatedTimeEnd("1");
+
+        assertSame(before, filterJobs.separatedJobs(START, END));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Deve limpar o cache quando jobs são adicionados")
+    void shouldInvalidateWhenJobsAdded() {
+        var cache = new SeparatedJobsCache(4);
+        var filterJobs = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+
+        filterJobs.separatedJobs(START, END);
+        filterJobs.addJobs(List.of(buildJob(5, START.plusHours(1), "1")));
+        var result = filterJobs.separatedJobs(START, END);
+
+        assertEquals(0, cache.getHits());
+        assertThat(ids(result), contains(1, 5, 2, 3, 4));
+    }
+
+    @Test
+    @DisplayName("Deve separar os resultados de filtros com jobs diferentes no mesmo cache")
+    void shouldIsolateFiltersSharingCache() {
+        var cache = new SeparatedJobsCache(4);
+        var first = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+        var second = FilterJobs.createFilter(List.of(buildJob(9, START.plusHours(1), "1")), 8)
+            .withCache(cache);
+
+        first.separatedJobs(START, END);
+        var result = second.separatedJobs(START, END);
+
+        assertThat(ids(result), contains(9));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o resultado de um filtro derivado antes da inclusão de jobs")
+    void shouldIgnoreDerivedFilterAfterJobsAdded() {
+        var cache = new SeparatedJobsCache(4);
+        var base = FilterJobs.createFilter(jobs(), 8).withCache(cache);
+        var parallel = base.parallel();
+
+        base.addJobs(List.of(buildJob(5, START.plusHours(1), "1")));
+        assertThat(ids(parallel.separatedJobs(START, END)), contains(1, 2, 3, 4));
+        var result = base.separatedJobs(START, END);
+
+        assertThat(ids(result), contains(1, 5, 2, 3, 4));
+        assertEquals(0, cache.getHits());
+    }
+
+    private List<Integer> ids(List<List<Job>> batches) {
+        return batches.stream()
+            .flatMap(Collection::stream)
+            .map(Job::getId)
+            .collect(Collectors.toList());
+    }
+
+    private List<Job> jobs() {
+        return List.of(
+            buildJob(1, START.plusHours(1), "2"),
+            buildJob(2, START.plusHours(2), "5"),
+            buildJob(3, START.plusHours(3), "1"),
+            buildJob(4, START.plusHours(4), "1"));
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
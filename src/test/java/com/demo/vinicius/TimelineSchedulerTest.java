@@ -0,0 +1,98 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - TimelineScheduler")
+class TimelineSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 11, 23, 59);
+
+    @Test
+    @DisplayName("Deve posicionar as listas de execução em sequência a partir do início")
+    void shouldPlaceBatchesInSequence() {
+        var job1 = buildJob(1, START.plusHours(10), "5");
+        var job2 = buildJob(2, START.plusHours(10), "3");
+        var job3 = buildJob(3, START.plusHours(20), "6:30");
+
+        var schedule = FilterJobs.createFilter(List.of(job3, job2, job1), 8)
+            .schedule(START, END);
+
+        assertThat(schedule.getUnscheduled(), empty());
+        assertEquals(2, schedule.getBatches().size());
+
+        var first = schedule.getBatches().get(0);
+        assertEquals(START, first.getStart());
+        assertEquals(START.plusHours(8), first.getFinish());
+        assertEquals(job2, first.getJobs().get(0).getJob());
+        assertEquals(START.plusHours(3), first.getJobs().get(0).getFinish());
+        assertEquals(START.plusHours(3), first.getJobs().get(1).getStart());
+
+        var second = schedule.getBatches().get(1);
+        assertEquals(START.plusHours(8), second.getStart());
+        assertEquals(START.plusHours(14).plusMinutes(30), second.getFinish());
+        assertEquals(job3, second.getJobs().get(0).getJob());
+    }
+
+    @Test
+    @DisplayName("Deve retirar o job mais longo quando o prazo não pode ser cumprido")
+    void shouldLeaveLongestJobUnscheduled() {
+        var job1 = buildJob(1, START.plusHours(5), "4");
+        var job2 = buildJob(2, START.plusHours(6), "2");
+        var job3 = buildJob(3, START.plusHours(6), "2");
+
+        var schedule = FilterJobs.createFilter(List.of(job1, job2, job3), 8)
+            .schedule(START, END);
+
+        assertThat(schedule.getUnscheduled(), contains(job1));
+        assertThat(jobs(schedule), contains(job2, job3));
+    }
+
+    @Test
+    @DisplayName("Deve concluir todos os jobs aceitos até a data máxima de conclusão")
+    void shouldFinishAcceptedJobsBeforeDeadline() {
+        var jobs = List.of(
+            buildJob(1, START.plusHours(1), "2"),
+            buildJob(2, START.plusHours(3), "1"),
+            buildJob(3, START.plusHours(4), "1:30"),
+            buildJob(4, START.plusHours(4), "0:30"),
+            buildJob(5, START.plusHours(9), "7"),
+            buildJob(6, START.plusHours(12), "3"));
+
+        var schedule = FilterJobs.createFilter(jobs, 8).schedule(START, END);
+
+        assertThat(schedule.getUnscheduled().stream().map(Job::getId)
+            .collect(Collectors.toList()), contains(1, 5));
+        schedule.getBatches().stream()
+            .map(ScheduledBatch::getJobs)
+            .flatMap(Collection::stream)
+            .forEach(scheduled -> assertFalse(scheduled.isLate()));
+    }
+
+    private List<Job> jobs(Schedule schedule) {
+        return schedule.getBatches().stream()
+            .flatMap(batch -> batch.getJobs().stream())
+            .map(ScheduledJob::getJob)
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
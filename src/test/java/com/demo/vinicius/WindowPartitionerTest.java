@@ -0,0 +1,50 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - WindowPartitioner")
+class WindowPartitionerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 9, 0);
+
+    @Test
+    @DisplayName("Deve cortar a janela à meia-noite de cada dia")
+    void shouldSplitDaily() {
+        var cuts = WindowPartitioner.daily().split(START, START.plusDays(2).plusHours(1));
+
+        assertThat(cuts, contains(LocalDateTime.of(2020, 10, 11, 0, 0),
+            LocalDateTime.of(2020, 10, 12, 0, 0)));
+        assertThat(WindowPartitioner.daily().split(START, START.plusHours(2)), empty());
+    }
+
+    @Test
+    @DisplayName("Deve cortar a janela no início de cada turno")
+    void shouldSplitByShifts() {
+        var partitioner = WindowPartitioner.shifts(LocalTime.of(22, 0), LocalTime.of(6, 0),
+            LocalTime.of(14, 0));
+
+        var cuts = partitioner.split(START, START.plusDays(1));
+
+        assertThat(cuts, contains(LocalDateTime.of(2020, 10, 10, 14, 0),
+            LocalDateTime.of(2020, 10, 10, 22, 0), LocalDateTime.of(2020, 10, 11, 6, 0)));
+    }
+
+    @Test
+    @DisplayName("Deve cortar a janela em partições de mesma duração")
+    void shouldSplitEveryDuration() {
+        var cuts = WindowPartitioner.every(Duration.ofHours(4)).split(START, START.plusHours(12));
+
+        assertThat(cuts, contains(START.plusHours(4), START.plusHours(8)));
+        assertThrows(IllegalArgumentException.class, () -> WindowPartitioner.every(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, WindowPartitioner::shifts);
+    }
+}
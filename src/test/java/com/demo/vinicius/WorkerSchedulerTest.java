@@ -0,0 +1,93 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Teste - Unidade - WorkerScheduler")
+class WorkerSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 10, 10, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 10, 12, 23, 59);
+
+    @Test
+    @DisplayName("Deve distribuir as listas de execução entre os workers disponíveis")
+    void shouldSpreadBatchesAcrossWorkers() {
+        var jobs = IntStream.range(0, 4)
+            .mapToObj(id -> buildJob(id, START.plusDays(1).plusHours(id), "8"))
+            .collect(Collectors.toList());
+
+        var schedule = FilterJobs.createFilter(jobs, 8).schedule(START, END, 2);
+
+        assertEquals(Duration.ofHours(16), schedule.getMakespan());
+        assertThat(schedule.getLateJobs(), empty());
+        assertThat(ids(schedule.getWorkers().get(0)), contains(0, 2));
+        assertThat(ids(schedule.getWorkers().get(1)), contains(1, 3));
+        assertEquals(START.plusHours(8), schedule.getWorkers().get(1).getBatches().get(1).getStart());
+    }
+
+    @Test
+    @DisplayName("Deve reportar os jobs concluídos após a data máxima e o maior atraso")
+    void shouldReportLateJobs() {
+        var job1 = buildJob(1, START.plusHours(8), "8");
+        var job2 = buildJob(2, START.plusHours(9), "8");
+        var job3 = buildJob(3, START.plusHours(10), "8");
+
+        var schedule = FilterJobs.createFilter(List.of(job1, job2, job3), 8)
+            .schedule(START, END, 2);
+
+        assertEquals(Duration.ofHours(16), schedule.getMakespan());
+        assertEquals(1, schedule.getLateJobs().size());
+        assertEquals(job3, schedule.getLateJobs().get(0).getJob());
+        assertEquals(Duration.ofHours(6), schedule.getMaxLateness());
+    }
+
+    @Test
+    @DisplayName("Deve manter workers sem listas de execução na linha do tempo")
+    void shouldKeepIdleWorkers() {
+        var schedule = FilterJobs.createFilter(List.of(buildJob(1, START.plusHours(8), "2")), 8)
+            .schedule(START, END, 3);
+
+        assertEquals(3, schedule.getWorkers().size());
+        assertThat(schedule.getWorkers().get(2).getBatches(), empty());
+        assertEquals(START, schedule.getWorkers().get(2).getFinish());
+        assertEquals(Duration.ofHours(2), schedule.getMakespan());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    @DisplayName("Deve lançar exception quando a quantidade de workers é inválida")
+    void shouldThrowsExceptionWhenWorkersInvalid(int workers) {
+        var filterJobs = FilterJobs.createFilter(List.of(), 8);
+        assertThrows(IllegalArgumentException.class,
+            () -> filterJobs.schedule(START, END, workers));
+    }
+
+    private List<Integer> ids(WorkerTimeline timeline) {
+        return timeline.getBatches().stream()
+            .flatMap(batch -> batch.getJobs().stream())
+            .map(scheduled -> scheduled.getJob().getId())
+            .collect(Collectors.toList());
+    }
+
+    private Job buildJob(int id, LocalDateTime dateMaxCompleteProcess, String estimatedTimeEnd) {
+        return Job.builder()
+            .id(id)
+            .description("Description")
+            .dateMaxCompleteProcess(dateMaxCompleteProcess)
+            .estimatedTimeEnd(estimatedTimeEnd)
+            .build();
+    }
+}
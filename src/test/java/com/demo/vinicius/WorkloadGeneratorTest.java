@@ -0,0 +1,107 @@
+package com.demo.vinicius;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.demo.vinicius.WorkloadGenerator.DeadlineSkew;
+import com.demo.vinicius.WorkloadGenerator.DurationMix;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teste - Unidade - WorkloadGenerator")
+class WorkloadGeneratorTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 10, 1, 0, 0);
+
+    @Test
+    @DisplayName("Deve gerar os mesmos jobs para a mesma semente em qualquer ordem de consumo")
+    void shouldBeReproducible() {
+        var generator = generator(7L, 10_000, DeadlineSkew.UNIFORM, DurationMix.MIXED);
+
+        var sequential = describe(generator.generate());
+        var parallel = describe(generator.stream().parallel().collect(Collectors.toList()));
+        var other = describe(
+            generator(8L, 10_000, DeadlineSkew.UNIFORM, DurationMix.MIXED).generate());
+
+        assertEquals(sequential, parallel);
+        assertEquals(sequential.get(1_234), describe(List.of(generator.job(1_234))).get(0));
+        assertNotEquals(sequential, other);
+    }
+
+    @Test
+    @DisplayName("Deve utilizar todos os formatos de tempo estimado dentro da faixa de horas")
+    void shouldUseAllFormats() {
+        var generator = generator(1L, 2_000, DeadlineSkew.UNIFORM, DurationMix.LONG);
+        var jobs = generator.generate();
+
+        var formats = jobs.stream()
+            .map(job -> generator.estimate(job.getId()).split(":").length)
+            .collect(Collectors.toSet());
+
+        assertEquals(4, formats.size());
+        for (var job : jobs) {
+            assertTrue(job.getEstimatedTimeNanos() >= Duration.ofHours(4).toNanos());
+            assertTrue(job.getEstimatedTimeNanos() < Duration.ofHours(8).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concentrar as datas conforme a distribuição informada")
+    void shouldSkewDeadlines() {
+        var uniform = firstHalf(DeadlineSkew.UNIFORM);
+
+        assertThat(uniform, greaterThan(0.45));
+        assertThat(uniform, lessThan(0.55));
+        assertThat(firstHalf(DeadlineSkew.FRONT_LOADED), greaterThan(0.65));
+        assertThat(firstHalf(DeadlineSkew.BACK_LOADED), lessThan(0.35));
+        assertThat(firstQuarter(DeadlineSkew.PEAKED), lessThan(0.15));
+        assertThrows(IllegalArgumentException.class,
+            () -> WorkloadGenerator.builder().jobCount(-1).build());
+    }
+
+    private double firstHalf(DeadlineSkew skew) {
+        return share(skew, BASE.plusDays(15));
+    }
+
+    private double firstQuarter(DeadlineSkew skew) {
+        return share(skew, BASE.plusDays(7).plusHours(12));
+    }
+
+    private double share(DeadlineSkew skew, LocalDateTime limit) {
+        var jobs = generator(3L, 20_000, skew, DurationMix.SHORT).generate();
+        for (var job : jobs) {
+            assertTrue(!job.getDateMaxCompleteProcess().isBefore(BASE));
+            assertTrue(job.getDateMaxCompleteProcess().isBefore(BASE.plusDays(30)));
+        }
+        return jobs.stream().filter(job -> job.getDateMaxCompleteProcess().isBefore(limit))
+            .count() / (double) jobs.size();
+    }
+
+    private List<String> describe(List<Job> jobs) {
+        return jobs.stream()
+            .map(job -> job.getId() + ";" + job.getDateMaxCompleteProcess() + ";"
+                + job.getEstimatedTimeEnd())
+            .collect(Collectors.toList());
+    }
+
+    private WorkloadGenerator generator(long seed, int jobCount, DeadlineSkew skew,
+        DurationMix mix) {
+        return WorkloadGenerator.builder()
+            .seed(seed)
+            .jobCount(jobCount)
+            .base(BASE)
+            .horizon(Duration.ofDays(30))
+            .deadlineSkew(skew)
+            .durationMix(mix)
+            .build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.demo.vinicius;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gerador determinístico de massas de jobs para testes de escala. Os valores de cada job dependem
+ * apenas da semente e da identificação do job, de modo que a mesma configuração produz os mesmos
+ * jobs em qualquer ordem de consumo, inclusive em streams paralelos.
+ *
+ * <p>As datas máximas de conclusão são distribuídas no horizonte a partir da data base conforme o
+ * {@link DeadlineSkew} e o tempo estimado segue o {@link DurationMix}, alternando entre todos os
+ * formatos aceitos pelo {@link Job}: {@code H}, {@code HH:mm}, {@code HH:mm:ss} e
+ * {@code HH:mm:ss:SS}.
+ *
+ * <p>Fica na raiz {@code src/workload/java}, compartilhada pelos testes e pelos benchmarks. Só faz
+ * parte do artefato principal quando compilado com o profile {@code jmh}.
+ */
+@Getter
+public class WorkloadGenerator {
+
+    private static final LocalDateTime DEFAULT_BASE = LocalDateTime.of(2020, 10, 1, 0, 0);
+    private static final Duration DEFAULT_HORIZON = Duration.ofDays(30);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final int jobCount;
+    private final LocalDateTime base;
+    private final Duration horizon;
+    private final DeadlineSkew deadlineSkew;
+    private final DurationMix durationMix;
+
+    @Builder
+    public WorkloadGenerator(long seed, int jobCount, LocalDateTime base, Duration horizon,
+        DeadlineSkew deadlineSkew, DurationMix durationMix) {
+        if (jobCount < 0) {
+            throw new IllegalArgumentException(
+                String.format("Quantidade de jobs inválida: %d", jobCount));
+        }
+        if (horizon != null && (horizon.isNegative() || horizon.isZero())) {
+            throw new IllegalArgumentException(
+                String.format("Horizonte inválido: %s", horizon));
+        }
+        this.seed = seed;
+        this.jobCount = jobCount;
+        this.base = base != null ? base : DEFAULT_BASE;
+        this.horizon = horizon != null ? horizon : DEFAULT_HORIZON;
+        this.deadlineSkew = deadlineSkew != null ? deadlineSkew : DeadlineSkew.UNIFORM;
+        this.durationMix = durationMix != null ? durationMix : DurationMix.MIXED;
+    }
+
+    /**
+     * Retorna os jobs sob demanda, sem materializar a massa inteira, por exemplo para o
+     * {@link ColumnarJobStore}
+     *
+     * @return Stream ordenado pela identificação dos jobs
+     */
+    public Stream<Job> stream() {
+        return IntStream.range(0, jobCount).mapToObj(this::job);
+    }
+
+    /**
+     * Retorna todos os jobs em uma lista
+     *
+     * @return jobs ordenados pela identificação
+     */
+    public List<Job> generate() {
+        return stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Cria o job da identificação informada
+     *
+     * @param id identificação do job
+     * @return job
+     */
+    public Job job(int id) {
+        var deadline = deadlineSkew.position(uniform(id, 0), uniform(id, 1));
+        var horizonSeconds = horizon.getSeconds();
+        return Job.builder()
+            .id(id)
+            .description("Job #" + id)
+            .dateMaxCompleteProcess(base.plusSeconds((long) (deadline * horizonSeconds)))
+            .estimatedTimeEnd(estimate(id))
+            .build();
+    }
+
+    /**
+     * Tempo estimado do job da identificação informada, no formato sorteado
+     */
+    String estimate(int id) {
+        return durationMix.estimate(random(id, 2));
+    }
+
+    private double uniform(int id, int stream) {
+        return (random(id, stream) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Valor pseudoaleatório derivado da semente, do job e do fluxo com o finalizador do
+     * SplitMix64
+     */
+    private long random(int id, int stream) {
+        var z = seed + (((long) id << 2) + stream + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Concentração das datas máximas de conclusão no horizonte
+     */
+    public enum DeadlineSkew {
+
+        /**
+         * Datas distribuídas igualmente no horizonte
+         */
+        UNIFORM {
+            @Override
+            double position(double first, double second) {
+                return first;
+            }
+        },
+
+        /**
+         * Datas concentradas no início do horizonte
+         */
+        FRONT_LOADED {
+            @Override
+            double position(double first, double second) {
+                return first * first;
+            }
+        },
+
+        /**
+         * Datas concentradas no fim do horizonte
+         */
+        BACK_LOADED {
+            @Override
+            double position(double first, double second) {
+                return Math.sqrt(first);
+            }
+        },
+
+        /**
+         * Datas concentradas no meio do horizonte
+         */
+        PEAKED {
+            @Override
+            double position(double first, double second) {
+                return (first + second) / 2;
+            }
+        };
+
+        /**
+         * Converte valores uniformes em {@code [0, 1)} na posição da data no horizonte
+         */
+        abstract double position(double first, double second);
+    }
+
+    /**
+     * Faixa de horas do tempo estimado dos jobs
+     */
+    public enum DurationMix {
+        SHORT(0, 1),
+        MIXED(0, 8),
+        LONG(4, 8);
+
+        private final int minHours;
+        private final int maxHours;
+
+        DurationMix(int minHours, int maxHours) {
+            this.minHours = minHours;
+            this.maxHours = maxHours;
+        }
+
+        private String estimate(long random) {
+            var value = random >>> 1;
+            var hours = minHours + (int) (value % (maxHours - minHours));
+            value /= maxHours - minHours;
+            var minutes = (int) (value % 60);
+            value /= 60;
+            var seconds = (int) (value % 60);
+            value /= 60;
+            // Último campo do formato HH:mm:ss:SS, lido em milissegundos pelo parser
+            var millis = (int) (value % 100);
+            value /= 100;
+            switch ((int) (value % 4)) {
+                case 0:
+                    return Integer.toString(Math.max(hours, 1));
+                case 1:
+                    return String.format("%02d:%02d", hours, minutes);
+                case 2:
+                    return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+                default:
+                    return String.format("%02d:%02d:%02d:%02d", hours, minutes, seconds,
+                        millis);
+            }
+        }
+    }
+}